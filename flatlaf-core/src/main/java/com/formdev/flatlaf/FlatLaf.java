@@ -16,18 +16,23 @@
 
 package com.formdev.flatlaf;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.EventQueue;
 import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.Window;
+import java.awt.image.BufferedImage;
 import java.awt.image.FilteredImageSource;
 import java.awt.image.ImageFilter;
 import java.awt.image.ImageProducer;
+import java.awt.image.RGBImageFilter;
+import java.awt.image.WritableRaster;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
@@ -46,6 +51,7 @@ import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntUnaryOperator;
@@ -125,6 +131,9 @@ public abstract class FlatLaf
 	private static String preferredSemiboldFontFamily;
 	private static String preferredMonospacedFontFamily;
 
+	// weak-keyed by source image; cleared on look and feel change
+	private static final Map<Image, DisabledImage> disabledImageCache = new WeakHashMap<>();
+
 	static {
 		// see disableWindowsD3Donscreen() for details
 		// https://github.com/JFormDesigner/FlatLaf/issues/887
@@ -279,16 +288,113 @@ public abstract class FlatLaf
 				? (ImageFilter) grayFilter
 				: GrayFilter.createDisabledIconFilter( isDark() ); // fallback
 
+			Image image = ((ImageIcon)icon).getImage();
+			return new ImageIconUIResource( getDisabledImage( image, filter ) );
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns a disabled image for the given image.
+	 * <p>
+	 * If the filter is a {@link RGBImageFilter}, the pixels of all resolution variants
+	 * are filtered immediately and the disabled image is cached (weak-keyed by source image).
+	 * So repeated invocations for the same image (e.g. when disabling many actions at once)
+	 * do not filter the image again.
+	 */
+	private static Image getDisabledImage( Image image, ImageFilter filter ) {
+		synchronized( disabledImageCache ) {
+			DisabledImage disabledImage = disabledImageCache.get( image );
+			if( disabledImage != null && disabledImage.filter == filter )
+				return disabledImage.image;
+		}
+
+		Image filteredImage = (filter instanceof RGBImageFilter)
+			? createDisabledImage( image, (RGBImageFilter) filter )
+			: null;
+		if( filteredImage == null ) {
+			// filter lazily using image producer
+			//   (not cached because filtered image references source image)
 			Function<Image, Image> mapper = img -> {
 				ImageProducer producer = new FilteredImageSource( img.getSource(), filter );
 				return Toolkit.getDefaultToolkit().createImage( producer );
 			};
+			return MultiResolutionImageSupport.map( image, mapper );
+		}
 
-			Image image = ((ImageIcon)icon).getImage();
-			return new ImageIconUIResource( MultiResolutionImageSupport.map( image, mapper ) );
+		synchronized( disabledImageCache ) {
+			disabledImageCache.put( image, new DisabledImage( filter, filteredImage ) );
 		}
+		return filteredImage;
+	}
 
-		return null;
+	/**
+	 * Filters all resolution variants of the given image.
+	 *
+	 * @return the filtered image, or {@code null} if an image could not be loaded
+	 */
+	private static Image createDisabledImage( Image image, RGBImageFilter filter ) {
+		if( !MultiResolutionImageSupport.isMultiResolutionImage( image ) )
+			return filterImage( image, filter );
+
+		List<Image> variants = MultiResolutionImageSupport.getResolutionVariants( image );
+		Image[] filteredVariants = new Image[variants.size()];
+		int baseWidth = image.getWidth( null );
+		int baseImageIndex = -1;
+		for( int i = 0; i < filteredVariants.length; i++ ) {
+			Image variant = variants.get( i );
+			filteredVariants[i] = filterImage( variant, filter );
+			if( filteredVariants[i] == null )
+				return null;
+
+			if( baseImageIndex < 0 && filteredVariants[i].getWidth( null ) == baseWidth )
+				baseImageIndex = i;
+		}
+		if( filteredVariants.length == 0 )
+			return null;
+
+		return MultiResolutionImageSupport.create( Math.max( baseImageIndex, 0 ), filteredVariants );
+	}
+
+	private static BufferedImage filterImage( Image image, RGBImageFilter filter ) {
+		int width = image.getWidth( null );
+		int height = image.getHeight( null );
+		if( width < 0 || height < 0 ) {
+			// load image (using ImageIcon, which uses MediaTracker)
+			image = new ImageIcon( image ).getImage();
+			width = image.getWidth( null );
+			height = image.getHeight( null );
+		}
+		if( width <= 0 || height <= 0 )
+			return null;
+
+		BufferedImage filteredImage = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+		Graphics2D g = filteredImage.createGraphics();
+		try {
+			// copy pixels as is (avoids rounding errors in translucent pixels)
+			g.setComposite( AlphaComposite.Src );
+			if( !g.drawImage( image, 0, 0, null ) )
+				return null; // not (yet) completely loaded
+		} finally {
+			g.dispose();
+		}
+
+		// filter pixels
+		if( filter instanceof GrayFilter ) {
+			((GrayFilter)filter).filter( filteredImage );
+			return filteredImage;
+		}
+
+		// getDataElements()/setDataElements() keep image managed/accelerated
+		WritableRaster raster = filteredImage.getRaster();
+		int[] pixels = (int[]) raster.getDataElements( 0, 0, width, height, null );
+		for( int y = 0, i = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++, i++ )
+				pixels[i] = filter.filterRGB( x, y, pixels[i] );
+		}
+		raster.setDataElements( 0, 0, width, height, pixels );
+		return filteredImage;
 	}
 
 	@Override
@@ -440,6 +546,11 @@ public abstract class FlatLaf
 		new HTMLEditorKit().getStyleSheet().addRule( "a, address { color: blue; }" );
 		postInitialization = null;
 
+		// clear disabled images (gray filter depends on look and feel)
+		synchronized( disabledImageCache ) {
+			disabledImageCache.clear();
+		}
+
 		super.uninitialize();
 	}
 
@@ -1843,6 +1954,19 @@ public abstract class FlatLaf
 		}
 	}
 
+	//---- class DisabledImage ------------------------------------------------
+
+	private static class DisabledImage
+	{
+		final ImageFilter filter;
+		final Image image;
+
+		DisabledImage( ImageFilter filter, Image image ) {
+			this.filter = filter;
+			this.image = image;
+		}
+	}
+
 	//---- interface DisabledIconProvider -------------------------------------
 
 	/**
@@ -138,6 +138,42 @@ public interface FlatSystemProperties
 	 */
 	String ANIMATION = "flatlaf.animation";
 
+	/**
+	 * Specifies the frame rate (frames per second) of animations.
+	 * All running animations are driven by a single shared timer that fires at this rate.
+	 * <p>
+	 * <strong>Allowed Values</strong> Integer greater than zero<br>
+	 * <strong>Default</strong> {@code 60}
+	 *
+	 * @since 3.8
+	 */
+	String ANIMATION_FRAME_RATE = "flatlaf.animationFrameRate";
+
+	/**
+	 * Specifies whether the animation governor is enabled.
+	 * If enabled, animations run at a reduced frame rate or jump to their end
+	 * if the event dispatch thread is busy.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code true}
+	 *
+	 * @since 3.8
+	 */
+	String ANIMATION_GOVERNOR = "flatlaf.animationGovernor";
+
+	/**
+	 * Specifies whether animation metrics are collected
+	 * (see {@link com.formdev.flatlaf.util.Animator#getAnimationMetrics()}).
+	 * If enabled, FlatLaf also emits JFR (Java Flight Recorder) events for animations
+	 * (requires Java 11 or later).
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 *
+	 * @since 3.8
+	 */
+	String ANIMATION_METRICS = "flatlaf.animationMetrics";
+
 	/**
 	 * Specifies whether native rounded popup borders should be used (if supported by operating system).
 	 * <p>
@@ -259,6 +295,33 @@ public interface FlatSystemProperties
 	 */
 	String USE_SYSTEM_FILE_CHOOSER = "flatlaf.useSystemFileChooser";
 
+	/**
+	 * Specifies whether borders and backgrounds of outlined components
+	 * (e.g. text fields, combo boxes, spinners and buttons) are painted using
+	 * cached nine-slice images instead of painting antialiased shapes on each repaint.
+	 * This is faster if there are many components (e.g. large forms).
+	 * <p>
+	 * Only used at integer system scale factors (e.g. 100% or 200%).
+	 * At fractional system scale factors (e.g. 125% or 150%), shapes are always painted.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 *
+	 * @since 3.8
+	 */
+	String USE_NINE_SLICE_PAINTING = "flatlaf.useNineSlicePainting";
+
+	/**
+	 * Specifies whether shapes used to paint components (e.g. rounded rectangles,
+	 * outlines and arrows) are cached and reused.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code true}
+	 *
+	 * @since 3.8
+	 */
+	String USE_SHAPE_CACHE = "flatlaf.useShapeCache";
+
 	/**
 	 * Checks whether a system property is set and returns {@code true} if its value
 	 * is {@code "true"} (case-insensitive), otherwise it returns {@code false}.
@@ -29,7 +29,7 @@ import com.formdev.flatlaf.util.AnimatedIcon;
  * Subclasses do not need to scale icon painting.
  * <p>
  * This class does not store any state information (needed for animation) in its instance.
- * Instead, a client property is set on the painted component.
+ * Instead, the state is stored per painted component (see {@link AnimatedIcon}).
  * This makes it possible to use a share icon instance for multiple components.
  *
  * @author Karl Tauber
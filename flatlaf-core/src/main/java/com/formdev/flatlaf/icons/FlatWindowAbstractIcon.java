@@ -112,7 +112,10 @@ public abstract class FlatWindowAbstractIcon
 	@Override
 	protected void paintIcon( Component c, Graphics2D g ) {
 		g.setColor( getForeground( c ) );
-		HiDPIUtils.paintAtScale1x( g, 0, 0, width, height, this::paintIconAt1x );
+		HiDPIUtils.paintAtScale1x( g, 0, 0, width, height, this,
+			(g2, x2, y2, width2, height2, scaleFactor, icon) -> {
+				icon.paintIconAt1x( g2, x2, y2, width2, height2, scaleFactor );
+			} );
 	}
 
 	protected abstract void paintIconAt1x( Graphics2D g, int x, int y, int width, int height, double scaleFactor );
@@ -584,8 +584,6 @@ public class FlatButtonUI
 	 */
 	@Override
 	public void paint( Graphics g, JComponent c ) {
-		g = FlatLabelUI.createGraphicsHTMLTextYCorrection( g, c );
-
 		AbstractButton b = (AbstractButton) c;
 
 		// layout
@@ -614,7 +612,13 @@ public class FlatButtonUI
 				if( b.isEnabled() )
 					FlatHTML.updateRendererCSSForeground( view, getForeground( b ) );
 
-				view.paint( g, textR ); // HTML text
+				// HTML text
+				Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+				try {
+					view.paint( g2, textR );
+				} finally {
+					HiDPIUtils.endGraphicsTextYCorrection( g2 );
+				}
 			} else
 				paintText( g, b, textR, clippedText );
 		}
@@ -27,6 +27,7 @@ import java.awt.image.BufferedImage;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableObject;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.LRUCache;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -48,6 +49,10 @@ public class FlatDropShadowBorder
 	@Styleable protected Insets shadowInsets;
 	@Styleable protected float shadowOpacity;
 
+	// shadow images shared by all instances (popups, tooltips and cloned styled borders
+	// create many border instances that usually use same shadow parameters)
+	private static final LRUCache<ShadowKey, BufferedImage> shadowImageCache = new LRUCache<>( 32, false );
+
 	private int shadowSize;
 	private Image shadowImage;
 	private Color lastShadowColor;
@@ -105,7 +110,10 @@ public class FlatDropShadowBorder
 		if( shadowSize <= 0 )
 			return;
 
-		HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, width, height, this::paintImpl );
+		HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, width, height, this,
+			(g2, x2, y2, width2, height2, scaleFactor, border) -> {
+				border.paintImpl( g2, x2, y2, width2, height2, scaleFactor );
+			} );
 	}
 
 	private void paintImpl( Graphics2D g, int x, int y, int width, int height, double scaleFactor ) {
@@ -121,8 +129,8 @@ public class FlatDropShadowBorder
 			lastSystemScaleFactor != scaleFactor ||
 			lastUserScaleFactor != userScaleFactor )
 		{
-			shadowImage = createShadowImage( shadowColor, shadowSize, shadowOpacity,
-				(float) (scaleFactor * userScaleFactor) );
+			shadowImage = getShadowImage( shadowColor, shadowSize, shadowOpacity,
+				scaleFactor, userScaleFactor );
 			lastShadowColor = shadowColor;
 			lastShadowOpacity = shadowOpacity;
 			lastShadowSize = shadowSize;
@@ -214,6 +222,20 @@ debug*/
 		return (int) Math.ceil( UIScale.scale( value ) * scaleFactor );
 	}
 
+	private static BufferedImage getShadowImage( Color shadowColor, int shadowSize,
+		float shadowOpacity, double systemScaleFactor, float userScaleFactor )
+	{
+		ShadowKey key = new ShadowKey( shadowColor.getRGB() & 0xffffff, shadowSize,
+			shadowOpacity, systemScaleFactor, userScaleFactor );
+		BufferedImage image = shadowImageCache.get( key );
+		if( image == null ) {
+			image = createShadowImage( shadowColor, shadowSize, shadowOpacity,
+				(float) (systemScaleFactor * userScaleFactor) );
+			shadowImageCache.put( key, image );
+		}
+		return image;
+	}
+
 	private static BufferedImage createShadowImage( Color shadowColor, int shadowSize,
 		float shadowOpacity, float scaleFactor )
 	{
@@ -249,4 +271,48 @@ debug*/
 
 		return image;
 	}
+
+	//---- class ShadowKey ----------------------------------------------------
+
+	private static class ShadowKey
+	{
+		private final int shadowRGB;
+		private final int shadowSize;
+		private final float shadowOpacity;
+		private final double systemScaleFactor;
+		private final float userScaleFactor;
+
+		ShadowKey( int shadowRGB, int shadowSize, float shadowOpacity,
+			double systemScaleFactor, float userScaleFactor )
+		{
+			this.shadowRGB = shadowRGB;
+			this.shadowSize = shadowSize;
+			this.shadowOpacity = shadowOpacity;
+			this.systemScaleFactor = systemScaleFactor;
+			this.userScaleFactor = userScaleFactor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof ShadowKey) )
+				return false;
+
+			ShadowKey key = (ShadowKey) obj;
+			return shadowRGB == key.shadowRGB &&
+				shadowSize == key.shadowSize &&
+				shadowOpacity == key.shadowOpacity &&
+				systemScaleFactor == key.systemScaleFactor &&
+				userScaleFactor == key.userScaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			int h = shadowRGB;
+			h = 31 * h + shadowSize;
+			h = 31 * h + Float.floatToIntBits( shadowOpacity );
+			h = 31 * h + Double.hashCode( systemScaleFactor );
+			h = 31 * h + Float.floatToIntBits( userScaleFactor );
+			return h;
+		}
+	}
 }
@@ -169,15 +169,25 @@ public class FlatLabelUI
 		paint( g, c );
 	}
 
-	static Graphics createGraphicsHTMLTextYCorrection( Graphics g, JComponent c ) {
+	static Graphics beginGraphicsHTMLTextYCorrection( Graphics g, JComponent c ) {
 		return (c.getClientProperty( BasicHTML.propertyKey ) != null)
-			? HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g )
+			? HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g )
 			: g;
 	}
 
+	static void endGraphicsHTMLTextYCorrection( Graphics g ) {
+		if( g instanceof Graphics2D )
+			HiDPIUtils.endGraphicsTextYCorrection( (Graphics2D) g );
+	}
+
 	@Override
 	public void paint( Graphics g, JComponent c ) {
-		super.paint( createGraphicsHTMLTextYCorrection( g, c ), c );
+		Graphics g2 = beginGraphicsHTMLTextYCorrection( g, c );
+		try {
+			super.paint( g2, c );
+		} finally {
+			endGraphicsHTMLTextYCorrection( g2 );
+		}
 	}
 
 	@Override
@@ -42,7 +42,6 @@ import javax.swing.plaf.basic.BasicListUI;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
-import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.LoggingFacade;
 import com.formdev.flatlaf.util.UIScale;
@@ -341,7 +340,8 @@ public class FlatListUI
 			(rendererComponent instanceof DefaultListCellRenderer ||
 			 rendererComponent instanceof BasicComboBoxRenderer) &&
 			(selectionArc > 0 ||
-			 (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets ))) )
+			 (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets ))) &&
+			rendererComponent.isOpaque() )
 		{
 			// Because selection painting is done in the cell renderer, it would be
 			// necessary to require a FlatLaf specific renderer to implement rounded selection.
@@ -349,56 +349,38 @@ public class FlatListUI
 			// already used in applications. Then either the rounded selection is not used,
 			// or the application has to be changed to extend a FlatLaf renderer.
 			//
-			// To solve this, a graphics proxy is used that paints rounded selection
-			// if row is selected and the renderer wants to fill the background.
-			class RoundedSelectionGraphics extends Graphics2DProxy {
-				// used to avoid endless loop in case that paintCellSelection() invokes
-				// g.fillRect() with full bounds (selectionInsets is 0,0,0,0)
-				private boolean inPaintSelection;
-
-				RoundedSelectionGraphics( Graphics delegate ) {
-					super( (Graphics2D) delegate );
+			// To solve this, the rounded selection is painted here (with renderer background)
+			// and the renderer is temporary made non-opaque, so that it does not fill
+			// its background with a rectangle.
+			Color oldColor = g.getColor();
+			if( isDropRow ) {
+				// for rounded drop background, it is necessary to first
+				// paint selection background because may be not rounded on some corners
+				if( isSelected ) {
+					g.setColor( list.getSelectionBackground() );
+					paintCellSelection( g, row, cx, rowBounds.y, cw, rowBounds.height );
 				}
 
-				@Override
-				public Graphics create() {
-					return new RoundedSelectionGraphics( super.create() );
-				}
-
-				@Override
-				public Graphics create( int x, int y, int width, int height ) {
-					return new RoundedSelectionGraphics( super.create( x, y, width, height ) );
-				}
-
-				@Override
-				public void fillRect( int x, int y, int width, int height ) {
-					if( !inPaintSelection &&
-						x == 0 && y == 0 && width == rowBounds.width && height == rowBounds.height &&
-						this.getColor() == rendererComponent.getBackground() )
-					{
-						inPaintSelection = true;
-						if( isDropRow ) {
-							// for rounded drop background, it is necessary to first
-							// paint selection background because may be not rounded on some corners
-							if( isSelected ) {
-								Color oldColor = getColor();
-								setColor( list.getSelectionBackground() );
-								paintCellSelection( this, row, x, y, width, height );
-								setColor( oldColor );
-							}
-
-							// paint drop background
-							float arc = UIScale.scale( selectionArc / 2f );
-							FlatUIUtils.paintSelection( this, x, y, width, height,
-								UIScale.scale( selectionInsets ), arc, arc, arc, arc, 0 );
-						} else
-							paintCellSelection( this, row, x, y, width, height );
-						inPaintSelection = false;
-					} else
-						super.fillRect( x, y, width, height );
-				}
+				// paint drop background
+				g.setColor( rendererComponent.getBackground() );
+				float arc = UIScale.scale( selectionArc / 2f );
+				FlatUIUtils.paintSelection( (Graphics2D) g, cx, rowBounds.y, cw, rowBounds.height,
+					UIScale.scale( selectionInsets ), arc, arc, arc, arc, 0 );
+			} else {
+				g.setColor( rendererComponent.getBackground() );
+				paintCellSelection( g, row, cx, rowBounds.y, cw, rowBounds.height );
+			}
+			g.setColor( oldColor );
+
+			// paint non-opaque renderer
+			JComponent renderer = (JComponent) rendererComponent;
+			renderer.setOpaque( false );
+			try {
+				rendererPane.paintComponent( g, rendererComponent, list, cx, rowBounds.y, cw, rowBounds.height, true );
+			} finally {
+				renderer.setOpaque( true );
 			}
-			g = new RoundedSelectionGraphics( g );
+			return;
 		}
 
 		// paint renderer
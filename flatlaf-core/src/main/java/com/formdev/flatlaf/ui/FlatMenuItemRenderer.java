@@ -54,6 +54,7 @@ import com.formdev.flatlaf.util.DerivedColor;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.SystemInfo;
+import com.formdev.flatlaf.util.UIScale;
 
 /**
  * Renderer for menu items.
@@ -107,6 +108,18 @@ public class FlatMenuItemRenderer
 	private boolean iconsShared = true;
 	private final Font menuFont = UIManager.getFont( "Menu.font" );
 
+	// cached layout; reused as long as all values that affect layout are unchanged
+	// (e.g. text, icon, accelerator, font, maximum icon width of popup, etc.)
+	private final LayoutKey layoutKey = new LayoutKey();
+	private Dimension cachedPreferredSize;
+	private final Rectangle cachedViewRect = new Rectangle();
+	private final Rectangle cachedIconRect = new Rectangle();
+	private final Rectangle cachedTextRect = new Rectangle();
+	private final Rectangle cachedAccelRect = new Rectangle();
+	private final Rectangle cachedArrowRect = new Rectangle();
+	private final Rectangle cachedLabelRect = new Rectangle();
+	private boolean cachedLayoutValid;
+
 	protected FlatMenuItemRenderer( JMenuItem menuItem, Icon checkIcon, Icon arrowIcon,
 		Font acceleratorFont, String acceleratorDelimiter )
 	{
@@ -122,6 +135,9 @@ public class FlatMenuItemRenderer
 
 	/** @since 2 */
 	protected Object applyStyleProperty( String key, Object value ) {
+		// styling may change layout
+		layoutKey.invalidate();
+
 		// style icon
 		if( key.startsWith( "icon." ) || key.equals( "selectionForeground" ) ) {
 			if( iconsShared ) {
@@ -192,6 +208,13 @@ public class FlatMenuItemRenderer
 	}
 
 	protected Dimension getPreferredMenuItemSize() {
+		validateLayoutCache();
+		if( cachedPreferredSize == null )
+			cachedPreferredSize = computePreferredMenuItemSize();
+		return new Dimension( cachedPreferredSize );
+	}
+
+	private Dimension computePreferredMenuItemSize() {
 		int width = 0;
 		int height = 0;
 		boolean isTopLevelMenu = isTopLevelMenu( menuItem );
@@ -251,8 +274,43 @@ public class FlatMenuItemRenderer
 		return new Dimension( width, height );
 	}
 
+	/**
+	 * Discards cached preferred size and layout if any value that affects layout has changed.
+	 */
+	private void validateLayoutCache() {
+		if( layoutKey.update() ) {
+			cachedPreferredSize = null;
+			cachedLayoutValid = false;
+		}
+	}
+
 	private void layout( Rectangle viewRect, Rectangle iconRect, Rectangle textRect,
 		Rectangle accelRect, Rectangle arrowRect, Rectangle labelRect )
+	{
+		// use cached layout if view rectangle and values that affect layout are unchanged
+		validateLayoutCache();
+		if( cachedLayoutValid && viewRect.equals( cachedViewRect ) ) {
+			iconRect.setBounds( cachedIconRect );
+			textRect.setBounds( cachedTextRect );
+			accelRect.setBounds( cachedAccelRect );
+			arrowRect.setBounds( cachedArrowRect );
+			labelRect.setBounds( cachedLabelRect );
+			return;
+		}
+
+		layoutImpl( viewRect, iconRect, textRect, accelRect, arrowRect, labelRect );
+
+		cachedViewRect.setBounds( viewRect );
+		cachedIconRect.setBounds( iconRect );
+		cachedTextRect.setBounds( textRect );
+		cachedAccelRect.setBounds( accelRect );
+		cachedArrowRect.setBounds( arrowRect );
+		cachedLabelRect.setBounds( labelRect );
+		cachedLayoutValid = true;
+	}
+
+	private void layoutImpl( Rectangle viewRect, Rectangle iconRect, Rectangle textRect,
+		Rectangle accelRect, Rectangle arrowRect, Rectangle labelRect )
 	{
 		boolean isTopLevelMenu = isTopLevelMenu( menuItem );
 
@@ -509,7 +567,12 @@ debug*/
 		if( isArmedOrSelected( menuItem ) && selectionForeground != null )
 			g = new GraphicsProxyWithTextColor( (Graphics2D) g, selectionForeground );
 
-		htmlView.paint( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ), textRect );
+		Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+		try {
+			htmlView.paint( g2, textRect );
+		} finally {
+			HiDPIUtils.endGraphicsTextYCorrection( g2 );
+		}
 	}
 
 	/**
@@ -694,6 +757,111 @@ debug*/
 		jc.putClientProperty( FlatMenuItemRenderer.KEY_MAX_ICONS_WIDTH, null );
 	}
 
+	//---- class LayoutKey ----------------------------------------------------
+
+	/**
+	 * Values that affect the layout of the menu item.
+	 * Used to detect changes (e.g. of text, icon, accelerator or font)
+	 * that require to compute the layout again.
+	 */
+	private class LayoutKey
+	{
+		private boolean valid;
+
+		private String text;
+		private Object htmlView;
+		private Font font;
+		private Icon icon;
+		private int iconWidth;
+		private int iconHeight;
+		private String accelText;
+		private Font accelFont;
+		private Icon checkIcon;
+		private Icon arrowIcon;
+		private int iconTextGap;
+		private int alignments;
+		private final Insets insets = new Insets( 0, 0, 0, 0 );
+		private int flags;
+		private int maxIconsWidth;
+		private int minimumWidth;
+		private float userScaleFactor;
+
+		private final Insets tempInsets = new Insets( 0, 0, 0, 0 );
+
+		void invalidate() {
+			valid = false;
+		}
+
+		/**
+		 * Updates this key with the current values of the menu item.
+		 *
+		 * @return {@code true} if any value has changed
+		 */
+		boolean update() {
+			boolean isTopLevelMenu = isTopLevelMenu( menuItem );
+
+			String text = menuItem.getText();
+			Object htmlView = menuItem.getClientProperty( BasicHTML.propertyKey );
+			Font font = isTopLevelMenu ? getTopLevelFont() : menuItem.getFont();
+			Icon icon = menuItem.getIcon();
+			int iconWidth = (icon != null) ? icon.getIconWidth() : 0;
+			int iconHeight = (icon != null) ? icon.getIconHeight() : 0;
+			String accelText = getAcceleratorText();
+			int iconTextGap = menuItem.getIconTextGap();
+			int alignments = menuItem.getVerticalAlignment()
+				| (menuItem.getHorizontalAlignment() << 8)
+				| (menuItem.getVerticalTextPosition() << 16)
+				| (menuItem.getHorizontalTextPosition() << 24);
+			Insets insets = menuItem.getInsets( tempInsets );
+			int flags = (menuItem.getComponentOrientation().isLeftToRight() ? 1 : 0)
+				| (isTopLevelMenu ? 2 : 0)
+				| (isInVerticalMenuBar( menuItem ) ? 4 : 0);
+			int maxIconsWidth = !isTopLevelMenu ? getMaxIconsWidth() : 0;
+			int minimumWidth = FlatUIUtils.minimumWidth( menuItem, FlatMenuItemRenderer.this.minimumWidth );
+			float userScaleFactor = UIScale.getUserScaleFactor();
+
+			if( valid &&
+				text == this.text &&
+				htmlView == this.htmlView &&
+				font == this.font &&
+				icon == this.icon &&
+				iconWidth == this.iconWidth &&
+				iconHeight == this.iconHeight &&
+				accelText == this.accelText &&
+				acceleratorFont == this.accelFont &&
+				FlatMenuItemRenderer.this.checkIcon == this.checkIcon &&
+				FlatMenuItemRenderer.this.arrowIcon == this.arrowIcon &&
+				iconTextGap == this.iconTextGap &&
+				alignments == this.alignments &&
+				insets.equals( this.insets ) &&
+				flags == this.flags &&
+				maxIconsWidth == this.maxIconsWidth &&
+				minimumWidth == this.minimumWidth &&
+				userScaleFactor == this.userScaleFactor )
+			  return false;
+
+			this.valid = true;
+			this.text = text;
+			this.htmlView = htmlView;
+			this.font = font;
+			this.icon = icon;
+			this.iconWidth = iconWidth;
+			this.iconHeight = iconHeight;
+			this.accelText = accelText;
+			this.accelFont = acceleratorFont;
+			this.checkIcon = FlatMenuItemRenderer.this.checkIcon;
+			this.arrowIcon = FlatMenuItemRenderer.this.arrowIcon;
+			this.iconTextGap = iconTextGap;
+			this.alignments = alignments;
+			this.insets.set( insets.top, insets.left, insets.bottom, insets.right );
+			this.flags = flags;
+			this.maxIconsWidth = maxIconsWidth;
+			this.minimumWidth = minimumWidth;
+			this.userScaleFactor = userScaleFactor;
+			return true;
+		}
+	}
+
 	//---- class MinSizeIcon --------------------------------------------------
 
 	private class MinSizeIcon
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import com.formdev.flatlaf.FlatSystemProperties;
+import com.formdev.flatlaf.util.LRUCache;
+import com.formdev.flatlaf.util.UIScale;
+
+/**
+ * Paints outlined components (background, focus border and border;
+ * see {@link FlatUIUtils#paintOutlinedComponent}) using nine-slice images.
+ * <p>
+ * The outlined component is rasterized once into a small image,
+ * which consists of four corners, four edges and a center.
+ * To paint a component of any size, the corners are copied 1:1
+ * and the edges and the center are stretched.
+ * Because the edges and the center are uniform along the stretched direction,
+ * the result is visually identical to painting the component shapes directly
+ * (there may be rounding differences of one or two color levels in antialiased pixels).
+ * <p>
+ * Only used at integer system scale factors, if the transform of the graphics context
+ * is not rotated and translated to whole device pixels, for solid colors and
+ * if the component is large enough.
+ * Otherwise the caller paints the component shapes directly.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class FlatNineSlicePainter
+{
+	/** Maximum corner size (in user space) of nine-slice images. Larger corners are painted directly. */
+	private static final int MAX_CORNER_SIZE = 64;
+
+	// weight is number of pixels; up to 1M pixels (4 MB)
+	private static final LRUCache<SliceKey, BufferedImage> sliceCache =
+		new LRUCache<>( 1024 * 1024, false, image -> image.getWidth() * image.getHeight() );
+
+	private static Boolean enabled;
+
+	static boolean isEnabled() {
+		if( enabled == null )
+			enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.USE_NINE_SLICE_PAINTING, false );
+		return enabled;
+	}
+
+	/**
+	 * Paints the outlined component using a nine-slice image.
+	 *
+	 * @return {@code false} if nine-slice painting is not possible for the given parameters;
+	 *         the caller should then paint the component shapes directly
+	 */
+	static boolean paintOutlinedComponent( Graphics2D g, int x, int y, int width, int height,
+		float focusWidth, float focusWidthFraction, float focusInnerWidth, float borderWidth, float arc,
+		Paint focusColor, Paint borderColor, Paint background, double systemScaleFactor )
+	{
+		// focus width fraction is animated --> do not cache images for each fraction
+		if( focusWidthFraction != 1 ||
+			!isColorOrNull( focusColor ) || !isColorOrNull( borderColor ) || !isColorOrNull( background ) ||
+			!AlphaComposite.SrcOver.equals( g.getComposite() ) )
+		  return false;
+
+		// corner size in user space
+		//   (includes focus border, border, arc and at least one pixel of straight edge)
+		float cornerExtent = focusWidth + Math.max( arc / 2, Math.max( borderWidth, focusInnerWidth ) );
+		if( cornerExtent < 0 || cornerExtent >= MAX_CORNER_SIZE )
+			return false;
+		int cornerSize = (int) Math.ceil( cornerExtent ) + 1;
+		int sliceSize = (cornerSize * 2) + 1;
+		if( width < sliceSize || height < sliceSize )
+			return false;
+
+		// transform must be scaled by system scale factor and translated to whole device pixels
+		AffineTransform t = g.getTransform();
+		int scale = (int) systemScaleFactor;
+		if( t.getShearX() != 0 || t.getShearY() != 0 ||
+			t.getScaleX() != scale || t.getScaleY() != scale ||
+			t.getTranslateX() != Math.floor( t.getTranslateX() ) ||
+			t.getTranslateY() != Math.floor( t.getTranslateY() ) )
+		  return false;
+
+		Object antialiasing = g.getRenderingHint( RenderingHints.KEY_ANTIALIASING );
+		Object strokeControl = g.getRenderingHint( RenderingHints.KEY_STROKE_CONTROL );
+
+		SliceKey key = new SliceKey( focusWidth, focusInnerWidth, borderWidth, arc,
+			rgbOrZero( focusColor ), rgbOrZero( borderColor ), rgbOrZero( background ),
+			focusColor != null, borderColor != null, background != null,
+			scale, UIScale.getUserScaleFactor(), antialiasing, strokeControl );
+		BufferedImage image = sliceCache.get( key );
+		if( image == null ) {
+			image = createSliceImage( sliceSize, scale, focusWidth, focusInnerWidth, borderWidth, arc,
+				focusColor, borderColor, background, antialiasing, strokeControl );
+			sliceCache.put( key, image );
+		}
+
+		paintSlices( g, image, x, y, width, height, cornerSize, scale );
+		return true;
+	}
+
+	private static BufferedImage createSliceImage( int sliceSize, int scale,
+		float focusWidth, float focusInnerWidth, float borderWidth, float arc,
+		Paint focusColor, Paint borderColor, Paint background,
+		Object antialiasing, Object strokeControl )
+	{
+		int size = sliceSize * scale;
+		BufferedImage image = new BufferedImage( size, size, BufferedImage.TYPE_INT_ARGB_PRE );
+		Graphics2D g = image.createGraphics();
+		try {
+			if( antialiasing != null )
+				g.setRenderingHint( RenderingHints.KEY_ANTIALIASING, antialiasing );
+			if( strokeControl != null )
+				g.setRenderingHint( RenderingHints.KEY_STROKE_CONTROL, strokeControl );
+			g.scale( scale, scale );
+
+			FlatUIUtils.paintOutlinedComponentImpl( g, 0, 0, sliceSize, sliceSize,
+				focusWidth, 1, focusInnerWidth, borderWidth, arc,
+				focusColor, borderColor, background, false, scale );
+		} finally {
+			g.dispose();
+		}
+		return image;
+	}
+
+	private static void paintSlices( Graphics2D g, BufferedImage image,
+		int x, int y, int width, int height, int cornerSize, int scale )
+	{
+		// avoid that (bilinear or bicubic) interpolation blends neighbor slices
+		Object oldInterpolation = g.getRenderingHint( RenderingHints.KEY_INTERPOLATION );
+		boolean changeInterpolation = (oldInterpolation != null &&
+			oldInterpolation != RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		if( changeInterpolation )
+			g.setRenderingHint( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR );
+
+		// x/y coordinates of slices in user space (destination)
+		int x0 = x;
+		int x1 = x + cornerSize;
+		int x2 = x + width - cornerSize;
+		int x3 = x + width;
+		int y0 = y;
+		int y1 = y + cornerSize;
+		int y2 = y + height - cornerSize;
+		int y3 = y + height;
+
+		// x/y coordinates of slices in image (source)
+		int s0 = 0;
+		int s1 = cornerSize * scale;
+		int s2 = s1 + scale;
+		int s3 = image.getWidth();
+
+		// corners
+		g.drawImage( image, x0, y0, x1, y1, s0, s0, s1, s1, null );
+		g.drawImage( image, x2, y0, x3, y1, s2, s0, s3, s1, null );
+		g.drawImage( image, x0, y2, x1, y3, s0, s2, s1, s3, null );
+		g.drawImage( image, x2, y2, x3, y3, s2, s2, s3, s3, null );
+
+		// edges
+		if( x2 > x1 ) {
+			g.drawImage( image, x1, y0, x2, y1, s1, s0, s2, s1, null );
+			g.drawImage( image, x1, y2, x2, y3, s1, s2, s2, s3, null );
+		}
+		if( y2 > y1 ) {
+			g.drawImage( image, x0, y1, x1, y2, s0, s1, s1, s2, null );
+			g.drawImage( image, x2, y1, x3, y2, s2, s1, s3, s2, null );
+		}
+
+		// center
+		if( x2 > x1 && y2 > y1 )
+			g.drawImage( image, x1, y1, x2, y2, s1, s1, s2, s2, null );
+
+		if( changeInterpolation )
+			g.setRenderingHint( RenderingHints.KEY_INTERPOLATION, oldInterpolation );
+	}
+
+	private static boolean isColorOrNull( Paint paint ) {
+		return paint == null || paint instanceof Color;
+	}
+
+	private static int rgbOrZero( Paint paint ) {
+		return (paint != null) ? ((Color)paint).getRGB() : 0;
+	}
+
+	//---- class SliceKey -----------------------------------------------------
+
+	private static class SliceKey
+	{
+		private final float focusWidth;
+		private final float focusInnerWidth;
+		private final float borderWidth;
+		private final float arc;
+		private final int focusRGB;
+		private final int borderRGB;
+		private final int backgroundRGB;
+		private final int colorFlags;
+		private final int systemScaleFactor;
+		private final float userScaleFactor;
+		private final Object antialiasing;
+		private final Object strokeControl;
+
+		SliceKey( float focusWidth, float focusInnerWidth, float borderWidth, float arc,
+			int focusRGB, int borderRGB, int backgroundRGB,
+			boolean hasFocusColor, boolean hasBorderColor, boolean hasBackground,
+			int systemScaleFactor, float userScaleFactor, Object antialiasing, Object strokeControl )
+		{
+			this.focusWidth = focusWidth;
+			this.focusInnerWidth = focusInnerWidth;
+			this.borderWidth = borderWidth;
+			this.arc = arc;
+			this.focusRGB = focusRGB;
+			this.borderRGB = borderRGB;
+			this.backgroundRGB = backgroundRGB;
+			this.colorFlags = (hasFocusColor ? 1 : 0) | (hasBorderColor ? 2 : 0) | (hasBackground ? 4 : 0);
+			this.systemScaleFactor = systemScaleFactor;
+			this.userScaleFactor = userScaleFactor;
+			this.antialiasing = antialiasing;
+			this.strokeControl = strokeControl;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof SliceKey) )
+				return false;
+
+			SliceKey key = (SliceKey) obj;
+			return focusWidth == key.focusWidth &&
+				focusInnerWidth == key.focusInnerWidth &&
+				borderWidth == key.borderWidth &&
+				arc == key.arc &&
+				focusRGB == key.focusRGB &&
+				borderRGB == key.borderRGB &&
+				backgroundRGB == key.backgroundRGB &&
+				colorFlags == key.colorFlags &&
+				systemScaleFactor == key.systemScaleFactor &&
+				userScaleFactor == key.userScaleFactor &&
+				Objects.equals( antialiasing, key.antialiasing ) &&
+				Objects.equals( strokeControl, key.strokeControl );
+		}
+
+		@Override
+		public int hashCode() {
+			int h = Float.floatToIntBits( focusWidth );
+			h = 31 * h + Float.floatToIntBits( focusInnerWidth );
+			h = 31 * h + Float.floatToIntBits( borderWidth );
+			h = 31 * h + Float.floatToIntBits( arc );
+			h = 31 * h + focusRGB;
+			h = 31 * h + borderRGB;
+			h = 31 * h + backgroundRGB;
+			h = 31 * h + colorFlags;
+			h = 31 * h + systemScaleFactor;
+			h = 31 * h + Float.floatToIntBits( userScaleFactor );
+			h = 31 * h + Objects.hashCode( antialiasing );
+			h = 31 * h + Objects.hashCode( strokeControl );
+			return h;
+		}
+	}
+}
@@ -465,7 +465,8 @@ public class FlatPopupMenuUI
 
 			@Override
 			public void actionPerformed( ActionEvent e ) {
-				if( timer != null && !isDisplayable() ) {
+				// stop timer if popup was closed or hidden
+				if( timer != null && !isShowing() ) {
 					timer.stop();
 					return;
 				}
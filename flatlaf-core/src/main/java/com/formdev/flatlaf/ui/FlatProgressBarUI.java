@@ -17,14 +17,19 @@
 package com.formdev.flatlaf.ui;
 
 import static com.formdev.flatlaf.FlatClientProperties.*;
+import java.awt.AlphaComposite;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.EventQueue;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.util.Map;
 import javax.swing.JComponent;
@@ -35,8 +40,11 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicProgressBarUI;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
+import com.formdev.flatlaf.util.Animator;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.LRUCache;
 import com.formdev.flatlaf.util.LoggingFacade;
+import com.formdev.flatlaf.util.SwingUtils;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -65,6 +73,13 @@ public class FlatProgressBarUI
 	extends BasicProgressBarUI
 	implements StyleableUI
 {
+	/** Maximum size (in device pixels) of cached box images. Larger ones are painted directly. */
+	private static final int MAX_IMAGE_PIXELS = 64 * 1024;
+
+	// weight is number of pixels; up to 256K pixels (1 MB)
+	private static final LRUCache<RoundRectKey, BufferedImage> roundRectImageCache =
+		new LRUCache<>( 256 * 1024, false, image -> image.getWidth() * image.getHeight() );
+
 	@Styleable protected int arc;
 	@Styleable protected Dimension horizontalSize;
 	@Styleable protected Dimension verticalSize;
@@ -74,6 +89,8 @@ public class FlatProgressBarUI
 	/** @since 2 */ @Styleable protected boolean square;
 
 	private PropertyChangeListener propertyChangeListener;
+	private FlatShowingTracker showingTracker;
+	private Animator indeterminateAnimator;
 	private Map<String, Object> oldStyleValues;
 
 	public static ComponentUI createUI( JComponent c ) {
@@ -145,6 +162,19 @@ public class FlatProgressBarUI
 			}
 		};
 		progressBar.addPropertyChangeListener( propertyChangeListener );
+
+		// suspend indeterminate animation while progress bar is not showing on screen
+		// (e.g. in hidden tab or iconified window) and resume it when showing again
+		showingTracker = new FlatShowingTracker( progressBar, () -> {
+			if( !progressBar.isIndeterminate() )
+				return;
+
+			if( showingTracker.isShowingOnScreen() )
+				startAnimationTimer();
+			else
+				stopAnimationTimer();
+		} );
+		showingTracker.install();
 	}
 
 	@Override
@@ -153,6 +183,52 @@ public class FlatProgressBarUI
 
 		progressBar.removePropertyChangeListener( propertyChangeListener );
 		propertyChangeListener = null;
+
+		showingTracker.uninstall();
+		showingTracker = null;
+	}
+
+	/**
+	 * Starts the indeterminate animation on the shared animation pulse
+	 * (see {@link Animator}), instead of using a timer for each progress bar.
+	 *
+	 * @since 3.8
+	 */
+	@Override
+	protected void startAnimationTimer() {
+		// do not start animation if progress bar is not showing on screen
+		// (animation is started when progress bar becomes showing; see installListeners())
+		if( !SwingUtils.isShowingOnScreen( progressBar ) )
+			return;
+
+		if( indeterminateAnimator == null ) {
+			indeterminateAnimator = new Animator( 1, fraction -> {
+				// compute animation index from elapsed time
+				// (animation stays in sync even if frames are dropped)
+				int frameCount = getFrameCount();
+				setAnimationIndex( Math.min( (int) (fraction * frameCount), frameCount - 1 ) );
+			} );
+			indeterminateAnimator.setRepeat( true );
+		}
+
+		if( indeterminateAnimator.isRunning() )
+			return;
+
+		// one animation cycle consists of getFrameCount() frames
+		// (computed by BasicProgressBarUI from ProgressBar.cycleTime)
+		int repaintInterval = Math.max( FlatUIUtils.getUIInt( "ProgressBar.repaintInterval", 50 ), 1 );
+		indeterminateAnimator.setDuration( Math.max( getFrameCount(), 1 ) * repaintInterval );
+		indeterminateAnimator.setResolution( repaintInterval );
+		indeterminateAnimator.start();
+	}
+
+	/** @since 3.8 */
+	@Override
+	protected void stopAnimationTimer() {
+		super.stopAnimationTimer();
+
+		if( indeterminateAnimator != null )
+			indeterminateAnimator.stop();
 	}
 
 	/** @since 2 */
@@ -249,9 +325,8 @@ public class FlatProgressBarUI
 		if( progressBar.isIndeterminate() ) {
 			boxRect = getBox( boxRect );
 			if( boxRect != null ) {
-				g.setColor( progressBar.getForeground() );
-				((Graphics2D)g).fill( new RoundRectangle2D.Float( boxRect.x, boxRect.y,
-					boxRect.width, boxRect.height, arc, arc ) );
+				paintBox( (Graphics2D) g, boxRect.x, boxRect.y, boxRect.width, boxRect.height,
+					arc, progressBar.getForeground() );
 			}
 		} else {
 			amountFull = getAmountFull( insets, width, height );
@@ -277,9 +352,60 @@ public class FlatProgressBarUI
 			paintString( g, x, y, width, height, amountFull, insets );
 	}
 
+	/**
+	 * Paints the moving box of indeterminate progress bars.
+	 * <p>
+	 * Because the box has the same size in all animation frames
+	 * (and usually in all progress bars of a table column), it is rasterized once into
+	 * a (cached) image, which is then only copied.
+	 * The track is not cached because its size changes with the progress bar width
+	 * (e.g. when resizing a window), which would fill the cache with useless images.
+	 * This is only possible at integer scale factors and if the graphics context
+	 * is translated to whole device pixels.
+	 * Otherwise the shapes are painted directly.
+	 */
+	private static void paintBox( Graphics2D g, int x, int y, int width, int height, int arc, Color color ) {
+		AffineTransform t = g.getTransform();
+		int scale = (int) t.getScaleX();
+		if( scale < 1 || t.getScaleX() != scale || t.getScaleY() != scale ||
+			t.getShearX() != 0 || t.getShearY() != 0 ||
+			t.getTranslateX() != Math.floor( t.getTranslateX() ) ||
+			t.getTranslateY() != Math.floor( t.getTranslateY() ) ||
+			color == null || !AlphaComposite.SrcOver.equals( g.getComposite() ) ||
+			(long) width * height * scale * scale > MAX_IMAGE_PIXELS )
+		{
+			g.setColor( color );
+			g.fill( new RoundRectangle2D.Float( x, y, width, height, arc, arc ) );
+			return;
+		}
+
+		RoundRectKey key = new RoundRectKey( width, height, arc, color.getRGB(), scale );
+		BufferedImage image = roundRectImageCache.get( key );
+		if( image == null ) {
+			image = new BufferedImage( width * scale, height * scale, BufferedImage.TYPE_INT_ARGB_PRE );
+			Graphics2D g2 = image.createGraphics();
+			try {
+				FlatUIUtils.setRenderingHints( g2 );
+				g2.scale( scale, scale );
+				g2.setColor( color );
+				g2.fill( new RoundRectangle2D.Float( 0, 0, width, height, arc, arc ) );
+			} finally {
+				g2.dispose();
+			}
+			roundRectImageCache.put( key, image );
+		}
+
+		g.drawImage( image, x, y, width, height, null );
+	}
+
 	@Override
 	protected void paintString( Graphics g, int x, int y, int width, int height, int amountFull, Insets b ) {
-		super.paintString( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ), x, y, width, height, amountFull, b );
+		Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+		try {
+			super.paintString( g2, x, y, width, height, amountFull, b );
+		} finally {
+			HiDPIUtils.endGraphicsTextYCorrection( g2 );
+		}
 	}
 
 	@Override
@@ -296,4 +422,46 @@ public class FlatProgressBarUI
 		if( (int) systemScaleFactor != systemScaleFactor )
 			HiDPIUtils.repaint( progressBar );
 	}
+
+	//---- class RoundRectKey -------------------------------------------------
+
+	private static class RoundRectKey
+	{
+		private final int width;
+		private final int height;
+		private final int arc;
+		private final int rgb;
+		private final int scale;
+
+		RoundRectKey( int width, int height, int arc, int rgb, int scale ) {
+			this.width = width;
+			this.height = height;
+			this.arc = arc;
+			this.rgb = rgb;
+			this.scale = scale;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof RoundRectKey) )
+				return false;
+
+			RoundRectKey key = (RoundRectKey) obj;
+			return width == key.width &&
+				height == key.height &&
+				arc == key.arc &&
+				rgb == key.rgb &&
+				scale == key.scale;
+		}
+
+		@Override
+		public int hashCode() {
+			int h = width;
+			h = 31 * h + height;
+			h = 31 * h + arc;
+			h = 31 * h + rgb;
+			h = 31 * h + scale;
+			return h;
+		}
+	}
 }
@@ -307,13 +307,22 @@ public class FlatRadioButtonUI
 
 				// move the graphics origin to the left (or right)
 				g.translate( offset, 0 );
-				super.paint( FlatLabelUI.createGraphicsHTMLTextYCorrection( g, c ), c );
+				paintImpl( g, c );
 				g.translate( -offset, 0 );
 				return;
 			}
 		}
 
-		super.paint( FlatLabelUI.createGraphicsHTMLTextYCorrection( g, c ), c );
+		paintImpl( g, c );
+	}
+
+	private void paintImpl( Graphics g, JComponent c ) {
+		Graphics g2 = FlatLabelUI.beginGraphicsHTMLTextYCorrection( g, c );
+		try {
+			super.paint( g2, c );
+		} finally {
+			FlatLabelUI.endGraphicsHTMLTextYCorrection( g2 );
+		}
 	}
 
 	@Override
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import javax.swing.Timer;
+import com.formdev.flatlaf.util.Animator;
+
+/**
+ * Coalesces repaints to at most one per animation frame (see {@link Animator#getFrameRate()}).
+ * <p>
+ * Used for hover (rollover) state changes, which occur very often when moving the mouse
+ * fast (e.g. across a tab strip or many scroll bars).
+ * All pending repaints (of all components) are performed together.
+ * The first repaint after an idle period is performed as soon as possible
+ * (via {@link EventQueue#invokeLater(Runnable)}),
+ * further repaints are deferred until the next frame.
+ * <p>
+ * Must be used on event dispatch thread only.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class FlatRepaintCoalescer
+{
+	private static final ArrayList<FlatRepaintCoalescer> pendingList = new ArrayList<>();
+	private static boolean flushScheduled;
+	private static long lastFlushTime;
+	private static Timer timer;
+
+	private final Runnable repaintRunnable;
+	private boolean pending;
+
+	/**
+	 * @param repaintRunnable a runnable that repaints the damaged areas
+	 */
+	FlatRepaintCoalescer( Runnable repaintRunnable ) {
+		this.repaintRunnable = repaintRunnable;
+	}
+
+	/**
+	 * Returns whether a repaint is pending.
+	 */
+	boolean isPending() {
+		return pending;
+	}
+
+	/**
+	 * Schedules a repaint. Does nothing if a repaint is already pending.
+	 */
+	void repaintLater() {
+		if( pending )
+			return;
+
+		pending = true;
+		pendingList.add( this );
+		scheduleFlush();
+	}
+
+	/**
+	 * Cancels a pending repaint.
+	 */
+	void cancel() {
+		if( !pending )
+			return;
+
+		pending = false;
+		pendingList.remove( this );
+	}
+
+	private static void scheduleFlush() {
+		if( flushScheduled )
+			return;
+		flushScheduled = true;
+
+		int frameDuration = Math.max( 1000 / Animator.getFrameRate(), 1 );
+		long elapsedTime = (System.nanoTime() - lastFlushTime) / 1000000;
+		if( elapsedTime >= frameDuration || elapsedTime < 0 ) {
+			// last flush was at least one frame ago (or never)
+			EventQueue.invokeLater( FlatRepaintCoalescer::flush );
+		} else {
+			if( timer == null ) {
+				timer = new Timer( 0, e -> flush() );
+				timer.setRepeats( false );
+			}
+			timer.setInitialDelay( (int) (frameDuration - elapsedTime) );
+			timer.restart();
+		}
+	}
+
+	// for unit tests
+	static void flushPending() {
+		if( !flushScheduled )
+			return;
+
+		if( timer != null )
+			timer.stop();
+		flush();
+	}
+
+	private static void flush() {
+		flushScheduled = false;
+		lastFlushTime = System.nanoTime();
+
+		FlatRepaintCoalescer[] array = pendingList.toArray( new FlatRepaintCoalescer[pendingList.size()] );
+		pendingList.clear();
+
+		for( FlatRepaintCoalescer coalescer : array ) {
+			coalescer.pending = false;
+			coalescer.repaintRunnable.run();
+		}
+	}
+}
@@ -752,7 +752,10 @@ public class FlatRootPaneUI
 			boolean active = parent instanceof Window && ((Window)parent).isActive();
 
 			g.setColor( FlatUIUtils.deriveColor( active ? activeBorderColor : inactiveBorderColor, baseBorderColor ) );
-			HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, width, height, this::paintImpl );
+			HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, width, height, this,
+				(g2, x2, y2, width2, height2, scaleFactor, border) -> {
+					border.paintImpl( g2, x2, y2, width2, height2, scaleFactor );
+				} );
 		}
 
 		private void paintImpl( Graphics2D g, int x, int y, int width, int height, double scaleFactor ) {
@@ -116,7 +116,7 @@ public class FlatScrollBarUI
 	@Styleable protected Color hoverButtonBackground;
 	@Styleable protected Color pressedButtonBackground;
 
-	private MouseAdapter hoverListener;
+	private ScrollBarHoverListener hoverListener;
 	protected boolean hoverTrack;
 	protected boolean hoverThumb;
 
@@ -149,6 +149,7 @@ public class FlatScrollBarUI
 
 		scrollbar.removeMouseListener( hoverListener );
 		scrollbar.removeMouseMotionListener( hoverListener );
+		hoverListener.uninstall();
 		hoverListener = null;
 	}
 
@@ -440,12 +441,19 @@ public class FlatScrollBarUI
 	private class ScrollBarHoverListener
 		extends MouseAdapter
 	{
+		// hover changes repaint only track or thumb, coalesced to at most one repaint per frame
+		private final FlatRepaintCoalescer repaintCoalescer = new FlatRepaintCoalescer( this::repaintDirtyRegion );
+		private Rectangle dirtyRegion;
+
+		void uninstall() {
+			repaintCoalescer.cancel();
+			dirtyRegion = null;
+		}
+
 		@Override
 		public void mouseExited( MouseEvent e ) {
-			if( !isPressed ) {
-				hoverTrack = hoverThumb = false;
-				repaint();
-			}
+			if( !isPressed )
+				setHover( false, false );
 		}
 
 		@Override
@@ -482,15 +490,32 @@ public class FlatScrollBarUI
 		}
 
 		private void update( int x, int y ) {
-			boolean inTrack = getTrackBounds().contains( x, y );
-			boolean inThumb = getThumbBounds().contains( x, y );
-			if( inTrack != hoverTrack || inThumb != hoverThumb ) {
-				hoverTrack = inTrack;
-				hoverThumb = inThumb;
-				repaint();
+			setHover( getTrackBounds().contains( x, y ), getThumbBounds().contains( x, y ) );
+		}
+
+		private void setHover( boolean inTrack, boolean inThumb ) {
+			if( inTrack == hoverTrack && inThumb == hoverThumb )
+				return;
+
+			// track color depends on track hover state, so repaint whole track (which includes thumb);
+			// otherwise only thumb color changed
+			Rectangle r = (inTrack != hoverTrack) ? getTrackBounds() : getThumbBounds();
+			hoverTrack = inTrack;
+			hoverThumb = inThumb;
+
+			if( scrollbar.isEnabled() && !r.isEmpty() ) {
+				dirtyRegion = (dirtyRegion != null) ? dirtyRegion.union( r ) : new Rectangle( r );
+				repaintCoalescer.repaintLater();
 			}
 		}
 
+		private void repaintDirtyRegion() {
+			Rectangle r = dirtyRegion;
+			dirtyRegion = null;
+			if( r != null && scrollbar != null )
+				HiDPIUtils.repaint( scrollbar, r );
+		}
+
 		private void repaint() {
 			if( scrollbar.isEnabled() )
 				HiDPIUtils.repaint( scrollbar );
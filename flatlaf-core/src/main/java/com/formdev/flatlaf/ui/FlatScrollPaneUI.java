@@ -73,6 +73,8 @@ import com.formdev.flatlaf.util.UIScale;
  * <!-- FlatScrollPaneUI -->
  *
  * @uiDefault ScrollPane.smoothScrolling		boolean
+ * @uiDefault ScrollPane.smoothScrolling.duration		int		(optional; default is 100)
+ * @uiDefault ScrollPane.smoothScrolling.interpolator	Animator.Interpolator	(optional)
  *
  * @author Karl Tauber
  */
@@ -84,6 +86,8 @@ public class FlatScrollPaneUI
 	/** @since 2 */ @Styleable protected Boolean showButtons;
 
 	private Handler handler;
+	private FlatSmoothScroller verticalSmoothScroller;
+	private FlatSmoothScroller horizontalSmoothScroller;
 
 	private Map<String, Object> oldStyleValues;
 	private AtomicBoolean borderShared;
@@ -145,6 +149,15 @@ public class FlatScrollPaneUI
 		removeViewportListeners( scrollpane.getViewport() );
 
 		handler = null;
+
+		if( verticalSmoothScroller != null ) {
+			verticalSmoothScroller.cancel();
+			verticalSmoothScroller = null;
+		}
+		if( horizontalSmoothScroller != null ) {
+			horizontalSmoothScroller.cancel();
+			horizontalSmoothScroller = null;
+		}
 	}
 
 	/**
@@ -245,31 +258,20 @@ public class FlatScrollPaneUI
 
 		// compute relative delta
 		double delta = rotation * scrollIncrement;
-		int idelta = (int) Math.round( delta );
-
-		// scroll at least one pixel to avoid "hanging"
-		// - for "super-low-speed" scrolling (move fingers very slowly on trackpad)
-		// - if unit increment is very small (e.g. 1 if scroll view does not implement
-		//   javax.swing.Scrollable interface)
-		if( idelta == 0 ) {
-			if( rotation > 0 )
-				idelta = 1;
-			else if( rotation < 0 )
-				idelta = -1;
-		}
 
-		// compute new value
-		int value = scrollbar.getValue();
+		// compute min/max values
 		int minValue = scrollbar.getMinimum();
 		int maxValue = scrollbar.getMaximum() - scrollbar.getModel().getExtent();
-		int newValue = Math.max( minValue, Math.min( value + idelta, maxValue ) );
 
-		// set new value
-		if( newValue != value )
-			scrollbar.setValue( newValue );
+		// accumulate delta (including fractions of pixels, which avoids "hanging"
+		// for "super-low-speed" scrolling or very small unit increments)
+		// and animate to new value on next animation frame(s),
+		// which coalesces high-frequency wheel events (e.g. from touchpad)
+		getSmoothScroller( orientation ).scrollBy( delta, minValue, maxValue,
+			FlatSmoothScroller.getDefaultDuration() );
 
 /*debug
-		System.out.println( String.format( "%s  %4d  %9f  /  %3d * %d = %3d  [%3d]  /  %8.2f %5d  /  %4d --> %4d  [%d, %d]",
+		System.out.println( String.format( "%s  %4d  %9f  /  %3d * %d = %3d  [%3d]  /  %8.2f  /  %4d --> %8.2f  [%d, %d]",
 			(orientation == SwingConstants.VERTICAL) ? "V" : "H",
 			e.getWheelRotation(),
 			e.getPreciseWheelRotation(),
@@ -278,14 +280,43 @@ public class FlatScrollPaneUI
 			scrollIncrement,
 			viewportWH,
 			delta,
-			idelta,
-			value,
-			newValue,
+			scrollbar.getValue(),
+			getSmoothScroller( orientation ).getTargetValue(),
 			minValue,
 			maxValue ) );
 */
 	}
 
+	private FlatSmoothScroller getSmoothScroller( int orientation ) {
+		// scroll bars are obtained on each use because they may be replaced
+		if( orientation == SwingConstants.VERTICAL ) {
+			if( verticalSmoothScroller == null ) {
+				verticalSmoothScroller = new FlatSmoothScroller( scrollpane,
+					() -> getScrollBarValue( scrollpane.getVerticalScrollBar() ),
+					value -> setScrollBarValue( scrollpane.getVerticalScrollBar(), value ),
+					null );
+			}
+			return verticalSmoothScroller;
+		} else {
+			if( horizontalSmoothScroller == null ) {
+				horizontalSmoothScroller = new FlatSmoothScroller( scrollpane,
+					() -> getScrollBarValue( scrollpane.getHorizontalScrollBar() ),
+					value -> setScrollBarValue( scrollpane.getHorizontalScrollBar(), value ),
+					null );
+			}
+			return horizontalSmoothScroller;
+		}
+	}
+
+	private static int getScrollBarValue( JScrollBar scrollbar ) {
+		return (scrollbar != null) ? scrollbar.getValue() : 0;
+	}
+
+	private static void setScrollBarValue( JScrollBar scrollbar, int value ) {
+		if( scrollbar != null )
+			scrollbar.setValue( value );
+	}
+
 	@Override
 	protected PropertyChangeListener createPropertyChangeListener() {
 		PropertyChangeListener superListener = super.createPropertyChangeListener();
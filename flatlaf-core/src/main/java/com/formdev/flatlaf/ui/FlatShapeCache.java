@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+import com.formdev.flatlaf.FlatSystemProperties;
+import com.formdev.flatlaf.util.LRUCache;
+
+/**
+ * A small bounded cache of shapes used for painting
+ * (rounded rectangles, component rectangles, outlines and arrows).
+ * <p>
+ * Cached shapes are located at origin (0,0) and must be translated when painting
+ * (see {@link #fill(Graphics2D, Shape, float, float)}).
+ * Cached shapes are shared and must not be modified or passed to other code.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class FlatShapeCache
+{
+	private static final int ROUND_RECTANGLE = 1;
+	private static final int COMPONENT_RECTANGLE = 2;
+	private static final int OUTLINE = 3;
+	private static final int ARROW = 4;
+
+	private static final LRUCache<ShapeKey, Shape> cache = new LRUCache<>( 256, false );
+
+	private static Boolean enabled;
+
+	static boolean isEnabled() {
+		if( enabled == null )
+			enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.USE_SHAPE_CACHE, true );
+		return enabled;
+	}
+
+	/**
+	 * Fills the given (cached) shape at the given location.
+	 */
+	static void fill( Graphics2D g, Shape shape, float x, float y ) {
+		if( x == 0 && y == 0 ) {
+			g.fill( shape );
+			return;
+		}
+
+		if( !(g.getPaint() instanceof Color) ) {
+			// translating the graphics context would also move gradients, textures, etc.
+			g.fill( AffineTransform.getTranslateInstance( x, y ).createTransformedShape( shape ) );
+			return;
+		}
+
+		g.translate( x, y );
+		g.fill( shape );
+		g.translate( -x, -y );
+	}
+
+	/**
+	 * Returns a cached shape created with
+	 * {@link FlatUIUtils#createRoundRectanglePath(float, float, float, float, float, float, float, float)}
+	 * at location (0,0).
+	 */
+	static Shape getRoundRectanglePath( float width, float height,
+		float arcTopLeft, float arcTopRight, float arcBottomLeft, float arcBottomRight )
+	{
+		ShapeKey key = new ShapeKey( ROUND_RECTANGLE, 0,
+			width, height, arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight );
+		Shape shape = cache.get( key );
+		if( shape == null ) {
+			shape = FlatUIUtils.createRoundRectanglePath( 0, 0, width, height,
+				arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight );
+			cache.put( key, shape );
+		}
+		return shape;
+	}
+
+	/**
+	 * Returns a cached shape created with
+	 * {@link FlatUIUtils#createComponentRectangle(float, float, float, float, float)}
+	 * at location (0,0).
+	 */
+	static Shape getComponentRectangle( float width, float height, float arc ) {
+		ShapeKey key = new ShapeKey( COMPONENT_RECTANGLE, 0, width, height, arc );
+		Shape shape = cache.get( key );
+		if( shape == null ) {
+			shape = FlatUIUtils.createComponentRectangle( 0, 0, width, height, arc );
+			cache.put( key, shape );
+		}
+		return shape;
+	}
+
+	/**
+	 * Returns a cached outline shape (as painted by
+	 * {@link FlatUIUtils#paintOutline(Graphics2D, float, float, float, float, float, float, float)})
+	 * at location (0,0).
+	 */
+	static Shape getOutline( float width, float height, float lineWidth, float arc, float innerArc ) {
+		ShapeKey key = new ShapeKey( OUTLINE, 0, width, height, lineWidth, arc, innerArc );
+		Shape shape = cache.get( key );
+		if( shape == null ) {
+			float t = lineWidth;
+			float t2x = t * 2;
+
+			Path2D border = new Path2D.Float( Path2D.WIND_EVEN_ODD );
+			border.append( FlatUIUtils.createComponentRectangle( 0, 0, width, height, arc ), false );
+			border.append( FlatUIUtils.createComponentRectangle( t, t, width - t2x, height - t2x, innerArc ), false );
+			shape = border;
+			cache.put( key, shape );
+		}
+		return shape;
+	}
+
+	/**
+	 * Returns a cached shape created with
+	 * {@link FlatUIUtils#createArrowShape(int, boolean, float, float)}.
+	 */
+	static Shape getArrowShape( int direction, boolean chevron, float w, float h ) {
+		ShapeKey key = new ShapeKey( ARROW, (direction << 1) | (chevron ? 1 : 0), w, h );
+		Shape shape = cache.get( key );
+		if( shape == null ) {
+			shape = FlatUIUtils.createArrowShape( direction, chevron, w, h );
+			cache.put( key, shape );
+		}
+		return shape;
+	}
+
+	//---- class ShapeKey -----------------------------------------------------
+
+	private static class ShapeKey
+	{
+		private final int kind;
+		private final int flags;
+		private final float[] values;
+		private final int hashCode;
+
+		ShapeKey( int kind, int flags, float... values ) {
+			this.kind = kind;
+			this.flags = flags;
+			this.values = values;
+
+			int h = kind;
+			h = 31 * h + flags;
+			h = 31 * h + Arrays.hashCode( values );
+			this.hashCode = h;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof ShapeKey) )
+				return false;
+
+			ShapeKey key = (ShapeKey) obj;
+			return kind == key.kind &&
+				flags == key.flags &&
+				Arrays.equals( values, key.values );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
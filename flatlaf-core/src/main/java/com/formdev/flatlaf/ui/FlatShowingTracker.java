@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.Component;
+import java.awt.Window;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowStateListener;
+import java.util.ArrayList;
+import javax.swing.SwingUtilities;
+import com.formdev.flatlaf.util.SwingUtils;
+
+/**
+ * Tracks whether a component is showing on screen
+ * (see {@link SwingUtils#isShowingOnScreen(Component)})
+ * and invokes a runnable when this changes.
+ * <p>
+ * Used to suspend timers and animations of components that are not showing
+ * (e.g. in hidden tab or iconified window) and resume them when showing again.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class FlatShowingTracker
+	implements HierarchyListener, WindowStateListener
+{
+	private final Component c;
+	private final Runnable changeRunnable;
+
+	// window that contains the component and its owners
+	private final ArrayList<Window> windows = new ArrayList<>();
+	private boolean showingOnScreen;
+
+	/**
+	 * @param c the component to track
+	 * @param changeRunnable a runnable invoked when showing on screen state changed
+	 */
+	FlatShowingTracker( Component c, Runnable changeRunnable ) {
+		this.c = c;
+		this.changeRunnable = changeRunnable;
+	}
+
+	void install() {
+		c.addHierarchyListener( this );
+		updateWindows();
+		showingOnScreen = SwingUtils.isShowingOnScreen( c );
+	}
+
+	void uninstall() {
+		c.removeHierarchyListener( this );
+		removeWindowListeners();
+	}
+
+	/**
+	 * Returns whether the component was showing on screen when last checked.
+	 */
+	boolean isShowingOnScreen() {
+		return showingOnScreen;
+	}
+
+	private void update() {
+		boolean newShowingOnScreen = SwingUtils.isShowingOnScreen( c );
+		if( newShowingOnScreen == showingOnScreen )
+			return;
+
+		showingOnScreen = newShowingOnScreen;
+		changeRunnable.run();
+	}
+
+	private void updateWindows() {
+		removeWindowListeners();
+
+		Window window = SwingUtilities.getWindowAncestor( c );
+		for( ; window != null; window = window.getOwner() ) {
+			window.addWindowStateListener( this );
+			windows.add( window );
+		}
+	}
+
+	private void removeWindowListeners() {
+		for( Window window : windows )
+			window.removeWindowStateListener( this );
+		windows.clear();
+	}
+
+	//---- interface HierarchyListener ----
+
+	@Override
+	public void hierarchyChanged( HierarchyEvent e ) {
+		long changeFlags = e.getChangeFlags();
+
+		// component (or one of its ancestors) was added to or removed from parent
+		if( (changeFlags & HierarchyEvent.PARENT_CHANGED) != 0 )
+			updateWindows();
+
+		if( (changeFlags & (HierarchyEvent.PARENT_CHANGED | HierarchyEvent.SHOWING_CHANGED)) != 0 )
+			update();
+	}
+
+	//---- interface WindowStateListener ----
+
+	@Override
+	public void windowStateChanged( WindowEvent e ) {
+		// window (or owner) iconified or deiconified
+		update();
+	}
+}
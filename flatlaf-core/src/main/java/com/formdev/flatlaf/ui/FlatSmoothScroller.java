@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.Component;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import javax.swing.UIManager;
+import com.formdev.flatlaf.util.Animator;
+import com.formdev.flatlaf.util.Animator.Interpolator;
+import com.formdev.flatlaf.util.CubicBezierEasing;
+import com.formdev.flatlaf.util.SwingUtils;
+
+/**
+ * Smoothly scrolls an integer value (e.g. scroll bar value or view position)
+ * to a target value. The value is animated on the shared animation pulse
+ * (see {@link Animator}).
+ * <p>
+ * Scroll deltas are accumulated (including fractions of pixels) into the target value.
+ * Because the value is changed only once per animation frame, all scroll requests
+ * received within a frame (e.g. high-frequency touchpad events) are coalesced
+ * into a single value change (and viewport repaint).
+ * <p>
+ * If the value is changed by someone else (e.g. by dragging the scroll bar thumb),
+ * a running animation is canceled and the next scroll request starts at the current value.
+ *
+ * @uiDefault ScrollPane.smoothScrolling.duration		int		(optional; default is 100)
+ * @uiDefault ScrollPane.smoothScrolling.interpolator	Animator.Interpolator	(optional)
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class FlatSmoothScroller
+{
+	private static final Interpolator DEFAULT_INTERPOLATOR = new CubicBezierEasing( 0.5f, 0.5f, 0.5f, 1 );
+
+	private final Component c;
+	private final IntSupplier valueGetter;
+	private final IntConsumer valueSetter;
+	private final Runnable endRunnable;
+
+	private Animator animator;
+	private int startValue;
+	private double targetValue;
+	private int lastValue = Integer.MIN_VALUE;
+
+	/**
+	 * @param c the component that is scrolled; animation jumps to target value if it is no longer showing on screen
+	 * @param valueGetter returns the current value
+	 * @param valueSetter sets a new value
+	 * @param endRunnable a runnable invoked when the animation ends; or {@code null}
+	 */
+	FlatSmoothScroller( Component c, IntSupplier valueGetter, IntConsumer valueSetter, Runnable endRunnable ) {
+		this.c = c;
+		this.valueGetter = valueGetter;
+		this.valueSetter = valueSetter;
+		this.endRunnable = endRunnable;
+	}
+
+	/**
+	 * Returns the animation duration from UI default {@code ScrollPane.smoothScrolling.duration}.
+	 */
+	static int getDefaultDuration() {
+		return FlatUIUtils.getUIInt( "ScrollPane.smoothScrolling.duration", 100 );
+	}
+
+	/**
+	 * Returns the target value of the running animation (including fractions),
+	 * or of the last animation if the value was not changed by someone else since then.
+	 * Otherwise the current value is returned.
+	 */
+	double getTargetValue() {
+		int value = valueGetter.getAsInt();
+		return (value == lastValue) ? targetValue : value;
+	}
+
+	/**
+	 * Adds the given delta to the target value and animates to the new target value.
+	 *
+	 * @param delta the scroll delta
+	 * @param minValue the minimum value
+	 * @param maxValue the maximum value
+	 * @param duration the animation duration in milliseconds
+	 */
+	void scrollBy( double delta, int minValue, int maxValue, int duration ) {
+		double newTargetValue = getTargetValue() + delta;
+		scrollTo( Math.max( minValue, Math.min( newTargetValue, maxValue ) ), duration );
+	}
+
+	/**
+	 * Animates to the given target value.
+	 * If an animation is running, it continues from the current (animated) value.
+	 *
+	 * @param value the new target value
+	 * @param duration the animation duration in milliseconds; or zero to set value immediately
+	 */
+	void scrollTo( double value, int duration ) {
+		int currentValue = valueGetter.getAsInt();
+		targetValue = value;
+		lastValue = currentValue;
+
+		// set value immediately if animation is disabled
+		if( duration <= 0 || !Animator.useAnimation() ) {
+			if( animator != null )
+				animator.cancel();
+
+			setValue( (int) Math.round( value ) );
+
+			if( endRunnable != null )
+				endRunnable.run();
+			return;
+		}
+
+		startValue = currentValue;
+
+		// create animator
+		if( animator == null ) {
+			animator = new Animator( duration, fraction -> {
+				// cancel animation if value was changed by someone else
+				if( valueGetter.getAsInt() != lastValue ) {
+					animator.cancel();
+					return;
+				}
+
+				// jump to target value if component is no longer showing
+				int target = (int) Math.round( targetValue );
+				if( !SwingUtils.isShowingOnScreen( c ) ) {
+					setValue( target );
+					animator.stop();
+					return;
+				}
+
+				// update value
+				setValue( startValue + Math.round( (target - startValue) * fraction ) );
+			}, endRunnable );
+		}
+
+		// restart animator
+		// (value is not changed here, but on next animation frame;
+		// so multiple invocations within a frame are coalesced)
+		animator.cancel();
+		animator.setDuration( duration );
+		animator.setInterpolator( getInterpolator() );
+		animator.start();
+	}
+
+	/**
+	 * Cancels a running animation.
+	 */
+	void cancel() {
+		if( animator != null )
+			animator.cancel();
+	}
+
+	boolean isRunning() {
+		return animator != null && animator.isRunning();
+	}
+
+	private void setValue( int value ) {
+		if( value != lastValue ) {
+			valueSetter.accept( value );
+
+			// value may be limited by setter (e.g. by scroll bar model)
+			lastValue = valueGetter.getAsInt();
+		}
+	}
+
+	private static Interpolator getInterpolator() {
+		Object interpolator = UIManager.get( "ScrollPane.smoothScrolling.interpolator" );
+		return (interpolator instanceof Interpolator) ? (Interpolator) interpolator : DEFAULT_INTERPOLATOR;
+	}
+}
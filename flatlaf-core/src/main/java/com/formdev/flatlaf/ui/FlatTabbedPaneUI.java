@@ -55,9 +55,12 @@ import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.IntConsumer;
@@ -97,11 +100,11 @@ import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableObject;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
 import com.formdev.flatlaf.ui.FlatStylingSupport.UnknownStyleException;
 import com.formdev.flatlaf.util.Animator;
-import com.formdev.flatlaf.util.CubicBezierEasing;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.JavaCompatibility;
 import com.formdev.flatlaf.util.LoggingFacade;
 import com.formdev.flatlaf.util.StringUtils;
+import com.formdev.flatlaf.util.SwingUtils;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -283,6 +286,7 @@ public class FlatTabbedPaneUI
 	private Dimension scrollBackwardButtonPrefSize;
 
 	private Handler handler;
+	private final TabSizeCache tabSizeCache = new TabSizeCache();
 	private boolean blockRollover;
 	private boolean rolloverTabClose;
 	private boolean pressedTabClose;
@@ -572,6 +576,11 @@ public class FlatTabbedPaneUI
 			tabPane.removeMouseListener( wheelTabScroller );
 			wheelTabScroller = null;
 		}
+
+		if( rolloverRepaintCoalescer != null ) {
+			rolloverRepaintCoalescer.cancel();
+			rolloverRepaintCoalescer = null;
+		}
 	}
 
 	@Override
@@ -659,6 +668,7 @@ public class FlatTabbedPaneUI
 	/** @since 2 */
 	protected void applyStyle( Object style ) {
 		oldStyleValues = FlatStylingSupport.parseAndApply( oldStyleValues, style, this::applyStyleProperty );
+		tabSizeCache.clear();
 
 		// update buttons
 		for( Component c : tabPane.getComponents() ) {
@@ -822,7 +832,8 @@ public class FlatTabbedPaneUI
 			repaintRolloverLaterOnce( oldIndex );
 	}
 
-	private boolean repaintRolloverPending;
+	private FlatRepaintCoalescer rolloverRepaintCoalescer;
+	private int repaintRolloverOldIndex = -1;
 
 	/**
 	 * Repaint rollover tab, but deferred and only once.
@@ -832,24 +843,31 @@ public class FlatTabbedPaneUI
 	 * set rollover tab to -1, in BasicTabbedPaneUI.TabbedPaneLayout.layoutContainer() and
 	 * BasicTabbedPaneUI.TabbedPaneScrollLayout.layoutContainer(), and subsequently
 	 * change rollover tab back to previous value.
+	 *
+	 * Repaints are coalesced to at most one per animation frame,
+	 * which avoids many repaints when moving mouse fast across many tabs.
 	 */
 	private void repaintRolloverLaterOnce( int oldIndex ) {
-		if( repaintRolloverPending )
+		if( rolloverRepaintCoalescer == null )
+			rolloverRepaintCoalescer = new FlatRepaintCoalescer( this::repaintRollover );
+		else if( rolloverRepaintCoalescer.isPending() )
 			return;
-		repaintRolloverPending = true;
 
-		EventQueue.invokeLater( () -> {
-			repaintRolloverPending = false;
-			if( tabPane == null )
-				return;
+		repaintRolloverOldIndex = oldIndex;
+		rolloverRepaintCoalescer.repaintLater();
+	}
 
-			int index = getRolloverTab();
-			if( index != oldIndex ) {
-				// repaint old and new hover tabs
-				repaintTab( oldIndex );
-				repaintTab( index );
-			}
-		} );
+	private void repaintRollover() {
+		if( tabPane == null )
+			return;
+
+		int oldIndex = repaintRolloverOldIndex;
+		int index = getRolloverTab();
+		if( index != oldIndex ) {
+			// repaint old and new hover tabs
+			repaintTab( oldIndex );
+			repaintTab( index );
+		}
 	}
 
 	protected boolean isRolloverTabClose() {
@@ -926,6 +944,18 @@ public class FlatTabbedPaneUI
 		// update textIconGap before used in super class
 		textIconGap = scale( textIconGapUnscaled );
 
+		// use cached tab width, if tab did not change since last layout
+		TabSize tabSize = tabSizeCache.get( tabPlacement, tabIndex );
+		if( tabSize != null && tabSize.isWidthValid( metrics ) )
+			return tabSize.width;
+
+		int tabWidth = computeTabWidth( tabPlacement, tabIndex, metrics, tabWidthMode, rotated );
+		if( tabSize != null )
+			tabSize.setWidth( tabWidth, metrics );
+		return tabWidth;
+	}
+
+	private int computeTabWidth( int tabPlacement, int tabIndex, FontMetrics metrics, int tabWidthMode, boolean rotated ) {
 		int tabWidth;
 		Icon icon;
 		if( ((tabWidthMode == WIDTH_MODE_COMPACT &&
@@ -992,6 +1022,18 @@ public class FlatTabbedPaneUI
 	}
 
 	private int calculateTabHeightImpl( int tabPlacement, int tabIndex, int fontHeight, boolean rotated ) {
+		// use cached tab height, if tab did not change since last layout
+		TabSize tabSize = tabSizeCache.get( tabPlacement, tabIndex );
+		if( tabSize != null && tabSize.isHeightValid( fontHeight ) )
+			return tabSize.height;
+
+		int tabHeight = computeTabHeight( tabPlacement, tabIndex, fontHeight, rotated );
+		if( tabSize != null )
+			tabSize.setHeight( tabHeight, fontHeight );
+		return tabHeight;
+	}
+
+	private int computeTabHeight( int tabPlacement, int tabIndex, int fontHeight, boolean rotated ) {
 		int tabHeight;
 
 		Icon icon;
@@ -1210,11 +1252,118 @@ public class FlatTabbedPaneUI
 		// from BasicTabbedPaneUI.ScrollableTabPanel.paintComponent()
 		Object[] oldHints = FlatUIUtils.setRenderingHints( g );
 
-		super.paintTabArea( g, tabPlacement, selectedIndex );
+		// same as super.paintTabArea(), but uses binary search to find
+		// tabs that intersect the clip bounds (instead of iterating all tabs)
+		int tabCount = tabPane.getTabCount();
+		Rectangle iconRect = new Rectangle();
+		Rectangle textRect = new Rectangle();
+		Rectangle clipRect = g.getClipBounds();
+
+		// paint tab runs from back to front
+		for( int i = runCount - 1; i >= 0; i-- ) {
+			int start = tabRuns[i];
+			int next = tabRuns[(i == runCount - 1) ? 0 : i + 1];
+			int end = (next != 0) ? next - 1 : tabCount - 1;
+
+			if( clipRect != null && start <= end ) {
+				// tabs at clip start and end (may include one non-intersecting tab on each side)
+				boolean horizontal = isHorizontalTabRun( start, end );
+				int clipStart = horizontal ? clipRect.x : clipRect.y;
+				int clipEnd = clipStart + (horizontal ? clipRect.width : clipRect.height) - 1;
+				int index1 = searchTabInRun( start, end, clipStart, horizontal );
+				int index2 = searchTabInRun( start, end, clipEnd, horizontal );
+				start = Math.min( index1, index2 );
+				end = Math.min( Math.max( index1, index2 ), end );
+			}
+
+			for( int j = start; j <= end; j++ ) {
+				if( j != selectedIndex && (clipRect == null || rects[j].intersects( clipRect )) )
+					paintTab( g, tabPlacement, rects, j, iconRect, textRect );
+			}
+		}
+
+		// paint selected tab last because it may overlap other tabs
+		if( selectedIndex >= 0 && (clipRect == null || rects[selectedIndex].intersects( clipRect )) )
+			paintTab( g, tabPlacement, rects, selectedIndex, iconRect, textRect );
 
 		FlatUIUtils.resetRenderingHints( g, oldHints );
 	}
 
+	/**
+	 * Returns whether the tabs of the given tab run are laid out horizontally.
+	 * Uses the tab rectangles (instead of tab placement) because they may be
+	 * outdated if tab placement changed and tabbed pane was not yet laid out.
+	 */
+	private boolean isHorizontalTabRun( int start, int end ) {
+		return Math.abs( rects[end].x - rects[start].x ) > Math.abs( rects[end].y - rects[start].y );
+	}
+
+	/**
+	 * Searches the tab at the given location (x for horizontal, y for vertical tab runs)
+	 * in the given tab run using binary search.
+	 * Tab rectangles in a run are ordered by location (in reverse order for right-to-left).
+	 * <p>
+	 * Returns the index of the tab that contains the location.
+	 * If there is no such tab, returns the index of the following tab
+	 * (in tab index order), which may be {@code end + 1}.
+	 */
+	private int searchTabInRun( int start, int end, int location, boolean horizontal ) {
+		boolean ascending = horizontal
+			? rects[start].x <= rects[end].x
+			: rects[start].y <= rects[end].y;
+
+		int low = start;
+		int high = end;
+		while( low <= high ) {
+			int mid = (low + high) >>> 1;
+			Rectangle r = rects[mid];
+			int pos = horizontal ? r.x : r.y;
+			int size = horizontal ? r.width : r.height;
+
+			if( ascending ? (location >= pos + size) : (location < pos) )
+				low = mid + 1;
+			else if( ascending ? (location < pos) : (location >= pos + size) )
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the tab that contains the given location
+	 * (in coordinate space of tab rectangles), or -1.
+	 * Does not validate layout.
+	 */
+	private int findTabAt( int x, int y ) {
+		int tabCount = tabPane.getTabCount();
+		if( tabCount == 0 || rects.length < tabCount || tabRuns.length < runCount )
+			return -1;
+
+		int result = -1;
+		for( int i = 0; i < runCount; i++ ) {
+			int start = tabRuns[i];
+			int next = tabRuns[(i == runCount - 1) ? 0 : i + 1];
+			int end = (next != 0) ? next - 1 : tabCount - 1;
+			if( start > end )
+				continue;
+
+			// skip tab run if location is not within run
+			// (all tabs in a run have same y/height or x/width because
+			// getSelectedTabPadInsets() returns empty insets)
+			boolean horizontal = isHorizontalTabRun( start, end );
+			Rectangle r = rects[start];
+			if( horizontal ? (y < r.y || y >= r.y + r.height) : (x < r.x || x >= r.x + r.width) )
+				continue;
+
+			// use lowest tab index (same as linear search) if tab runs overlap
+			int index = searchTabInRun( start, end, horizontal ? x : y, horizontal );
+			if( index <= end && rects[index].contains( x, y ) && (result < 0 || index < result) )
+				result = index;
+		}
+		return result;
+	}
+
 	@Override
 	protected void paintTab( Graphics g, int tabPlacement, Rectangle[] rects,
 		int tabIndex, Rectangle iconRect, Rectangle textRect )
@@ -1868,7 +2017,9 @@ debug*/
 				return -1;
 		}
 
-		return super.tabForCoordinate( pane, x, y );
+		// same as super.tabForCoordinate(), but uses binary search
+		ensureCurrentLayout();
+		return findTabAt( x, y );
 	}
 
 	@Override
@@ -2324,14 +2475,153 @@ debug*/
 				return null; // check children
 		}
 
-		for( int i = 0; i < rects.length; i++ ) {
-			if( rects[i].contains( x, y ) )
-				return false;
-		}
+		if( findTabAt( x, y ) >= 0 )
+			return false;
 
 		return null; // check children
 	}
 
+	//---- class TabSizeCache -------------------------------------------------
+
+	/**
+	 * Caches preferred tab widths and heights, which are computed on each layout.
+	 * <p>
+	 * The cached size of a tab is recomputed only if title, icon, content component
+	 * or selection of that tab changed, or if a client property of the tab content component changed.
+	 * If tabs are inserted or removed, cached sizes of moved tabs are kept (matched by content component).
+	 * All cached sizes are discarded if a property of the tabbed pane changed.
+	 * <p>
+	 * Tabs with custom tab components are not cached because the preferred size
+	 * of the tab component may change any time.
+	 */
+	private class TabSizeCache
+	{
+		private TabSize[] sizes = new TabSize[0];
+		private int tabPlacement = -1;
+
+		/**
+		 * Returns the (validated) cached size of the given tab, or {@code null}
+		 * if the tab size can not be cached.
+		 */
+		TabSize get( int tabPlacement, int tabIndex ) {
+			if( tabPlacement != this.tabPlacement ) {
+				clear();
+				this.tabPlacement = tabPlacement;
+			}
+
+			int tabCount = tabPane.getTabCount();
+			if( tabIndex < 0 || tabIndex >= tabCount || tabPane.getTabComponentAt( tabIndex ) != null )
+				return null;
+
+			if( sizes.length != tabCount )
+				realign( tabCount );
+
+			TabSize tabSize = sizes[tabIndex];
+			if( tabSize == null )
+				sizes[tabIndex] = tabSize = new TabSize();
+			tabSize.update( tabPane.getTitleAt( tabIndex ), getIconForTab( tabIndex ),
+				tabPane.getComponentAt( tabIndex ), tabIndex == tabPane.getSelectedIndex() );
+			return tabSize;
+		}
+
+		void clear() {
+			Arrays.fill( sizes, null );
+		}
+
+		void invalidate( Component c ) {
+			for( TabSize tabSize : sizes ) {
+				if( tabSize != null && tabSize.component == c )
+					tabSize.invalidate();
+			}
+		}
+
+		private void realign( int tabCount ) {
+			// keep cached sizes of tabs that were moved because other tabs were inserted or removed
+			Map<Component, TabSize> oldSizes = new IdentityHashMap<>();
+			for( TabSize tabSize : sizes ) {
+				if( tabSize != null && tabSize.component != null )
+					oldSizes.put( tabSize.component, tabSize );
+			}
+
+			TabSize[] newSizes = new TabSize[tabCount];
+			if( !oldSizes.isEmpty() ) {
+				for( int i = 0; i < tabCount; i++ ) {
+					Component c = tabPane.getComponentAt( i );
+					if( c != null )
+						newSizes[i] = oldSizes.get( c );
+				}
+			}
+			sizes = newSizes;
+		}
+	}
+
+	//---- class TabSize ------------------------------------------------------
+
+	private static class TabSize
+	{
+		// key
+		private String title;
+		private Icon icon;
+		private int iconWidth;
+		private int iconHeight;
+		private Component component;
+		private boolean selected;
+
+		// cached values
+		int width;
+		int height;
+		private FontMetrics widthMetrics;
+		private int heightFontHeight;
+		private boolean heightValid;
+
+		void update( String title, Icon icon, Component component, boolean selected ) {
+			int iconWidth = (icon != null) ? icon.getIconWidth() : 0;
+			int iconHeight = (icon != null) ? icon.getIconHeight() : 0;
+			if( Objects.equals( title, this.title ) &&
+				icon == this.icon &&
+				iconWidth == this.iconWidth &&
+				iconHeight == this.iconHeight &&
+				component == this.component &&
+				selected == this.selected )
+			  return;
+
+			this.title = title;
+			this.icon = icon;
+			this.iconWidth = iconWidth;
+			this.iconHeight = iconHeight;
+			this.component = component;
+			this.selected = selected;
+			invalidate();
+		}
+
+		void invalidate() {
+			widthMetrics = null;
+			heightValid = false;
+		}
+
+		boolean isWidthValid( FontMetrics metrics ) {
+			return widthMetrics != null &&
+				(metrics == widthMetrics ||
+				 (metrics.getFont().equals( widthMetrics.getFont() ) &&
+				  metrics.getFontRenderContext().equals( widthMetrics.getFontRenderContext() )));
+		}
+
+		void setWidth( int width, FontMetrics metrics ) {
+			this.width = width;
+			this.widthMetrics = metrics;
+		}
+
+		boolean isHeightValid( int fontHeight ) {
+			return heightValid && fontHeight == heightFontHeight;
+		}
+
+		void setHeight( int height, int fontHeight ) {
+			this.height = height;
+			this.heightFontHeight = fontHeight;
+			this.heightValid = true;
+		}
+	}
+
 	//---- class TabCloseButton -----------------------------------------------
 
 	private static class TabCloseButton
@@ -2651,6 +2941,13 @@ debug*/
 				if( autoRepeatTimer == null ) {
 					// using same delays as in BasicScrollBarUI and BasicSpinnerUI
 					autoRepeatTimer = new Timer( 60, e2 -> {
+						// stop timer if tabbed pane was hidden (e.g. window iconified)
+						// while mouse button is pressed
+						if( !SwingUtils.isShowingOnScreen( this ) ) {
+							autoRepeatTimer.stop();
+							return;
+						}
+
 						if( isEnabled() )
 							doClick();
 					} );
@@ -2697,17 +2994,15 @@ debug*/
 		private Timer rolloverTimer;
 		private Timer exitedTimer;
 
-		private Animator animator;
-		private Point startViewPosition;
-		private Point targetViewPosition;
+		private FlatSmoothScroller smoothScroller;
 
 		protected void uninstall() {
 			if( rolloverTimer != null )
 				rolloverTimer.stop();
 			if( exitedTimer != null )
 				exitedTimer.stop();
-			if( animator != null )
-				animator.cancel();
+			if( smoothScroller != null )
+				smoothScroller.cancel();
 		}
 
 		@Override
@@ -2742,11 +3037,15 @@ debug*/
 			}
 
 			// compute new view position
-			Point viewPosition = (targetViewPosition != null)
-				? targetViewPosition
-				: tabViewport.getViewPosition();
+			// (continue from target view position if animation is running)
+			Point viewPosition = tabViewport.getViewPosition();
 			Dimension viewSize = tabViewport.getViewSize();
 			boolean horizontal = isHorizontalTabPlacement( tabPane.getTabPlacement() );
+			int targetValue = (int) Math.round( getSmoothScroller().getTargetValue() );
+			if( horizontal )
+				viewPosition.x = targetValue;
+			else
+				viewPosition.y = targetValue;
 			int x = viewPosition.x;
 			int y = viewPosition.y;
 			if( horizontal )
@@ -2802,13 +3101,10 @@ debug*/
 
 			// update view position
 			if( isPreciseWheel ) {
-				// do not use animation for precise scrolling (e.g. with trackpad)
-
-				// stop running animation (if any)
-				if( animator != null )
-					animator.stop();
-
-				tabViewport.setViewPosition( newViewPosition );
+				// use short animation for precise scrolling (e.g. with trackpad),
+				// which coalesces high-frequency wheel events
+				getSmoothScroller().scrollTo( horizontal ? x : y,
+					isSmoothScrollingEnabled() ? FlatSmoothScroller.getDefaultDuration() : 0 );
 				updateRolloverDelayed();
 			} else
 				setViewPositionAnimated( newViewPosition );
@@ -2818,8 +3114,9 @@ debug*/
 
 		protected void setViewPositionAnimated( Point viewPosition ) {
 			// check whether position is equal to current position
-			if( viewPosition.equals( tabViewport.getViewPosition() ) )
-				return;
+			if( viewPosition.equals( tabViewport.getViewPosition() ) &&
+				(smoothScroller == null || !smoothScroller.isRunning()) )
+			  return;
 
 			// do not use animation if disabled
 			if( !isSmoothScrollingEnabled() ) {
@@ -2828,39 +3125,34 @@ debug*/
 				return;
 			}
 
-			// remember start and target view positions
-			startViewPosition = tabViewport.getViewPosition();
-			targetViewPosition = viewPosition;
-
-			// create animator
-			if( animator == null ) {
-				// using same delays as in FlatScrollBarUI
-				int duration = 200;
-				int resolution = 10;
+			// using same duration as in FlatScrollBarUI
+			boolean horizontal = isHorizontalTabPlacement( tabPane.getTabPlacement() );
+			getSmoothScroller().scrollTo( horizontal ? viewPosition.x : viewPosition.y, 200 );
+		}
 
-				animator = new Animator( duration, fraction -> {
-					if( tabViewport == null || !tabViewport.isShowing() ) {
-						animator.stop();
+		private FlatSmoothScroller getSmoothScroller() {
+			if( smoothScroller == null ) {
+				// scrolls x or y coordinate of view position depending on tab placement
+				smoothScroller = new FlatSmoothScroller( tabPane, () -> {
+					if( tabViewport == null )
+						return 0;
+					Point viewPosition = tabViewport.getViewPosition();
+					return isHorizontalTabPlacement( tabPane.getTabPlacement() ) ? viewPosition.x : viewPosition.y;
+				}, value -> {
+					if( tabViewport == null )
 						return;
-					}
-
-					// update view position
-					int x = startViewPosition.x + Math.round( (targetViewPosition.x - startViewPosition.x) * fraction );
-					int y = startViewPosition.y + Math.round( (targetViewPosition.y - startViewPosition.y) * fraction );
-					tabViewport.setViewPosition( new Point( x, y ) );
+					Point viewPosition = tabViewport.getViewPosition();
+					if( isHorizontalTabPlacement( tabPane.getTabPlacement() ) )
+						viewPosition.x = value;
+					else
+						viewPosition.y = value;
+					tabViewport.setViewPosition( viewPosition );
 				}, () -> {
-					startViewPosition = targetViewPosition = null;
-
 					if( tabPane != null )
 						setRolloverTab( lastMouseX, lastMouseY );
 				} );
-
-				animator.setResolution( resolution );
-				animator.setInterpolator( new CubicBezierEasing( 0.5f, 0.5f, 0.5f, 1 ) );
 			}
-
-			// restart animator
-			animator.restart();
+			return smoothScroller;
 		}
 
 		protected void updateRolloverDelayed() {
@@ -2884,7 +3176,8 @@ debug*/
 					blockRollover = false;
 
 					// highlight tab at mouse location
-					if( tabPane != null )
+					// (not if tabbed pane was hidden in the meantime because mouse can not be over it)
+					if( tabPane != null && SwingUtils.isShowingOnScreen( tabPane ) )
 						setRolloverTab( lastMouseX, lastMouseY );
 				} );
 				rolloverTimer.setRepeats( false );
@@ -3121,6 +3414,13 @@ debug*/
 					break;
 			}
 
+			// tab sizes may depend on any property of the tabbed pane (e.g. font or client properties);
+			// changes of a single tab (e.g. "indexForTitle") are detected by the tab size cache
+			// and "html" is temporary set in layoutAndClipLabel()
+			String propertyName = e.getPropertyName();
+			if( !propertyName.startsWith( "index" ) && !propertyName.equals( "html" ) )
+				tabSizeCache.clear();
+
 			// handle event
 			switch( e.getPropertyName() ) {
 				case "tabPlacement":
@@ -3203,6 +3503,7 @@ debug*/
 				case TABBED_PANE_TAB_INSETS:
 				case TABBED_PANE_TAB_ALIGNMENT:
 				case TABBED_PANE_TAB_CLOSABLE:
+					tabSizeCache.invalidate( (Component) e.getSource() );
 					tabPane.revalidate();
 					HiDPIUtils.repaint( tabPane );
 					break;
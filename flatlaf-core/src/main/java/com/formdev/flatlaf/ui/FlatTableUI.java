@@ -26,7 +26,6 @@ import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
-import java.awt.Shape;
 import java.awt.event.ActionEvent;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
@@ -38,6 +37,7 @@ import java.beans.PropertyChangeListener;
 import java.util.Map;
 import javax.swing.Action;
 import javax.swing.ActionMap;
+import javax.swing.CellRendererPane;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.JScrollPane;
@@ -164,6 +164,11 @@ public class FlatTableUI
 	public void installUI( JComponent c ) {
 		super.installUI( c );
 
+		// replace renderer pane to support rounded selection
+		table.remove( rendererPane );
+		rendererPane = new RoundedSelectionRendererPane();
+		table.add( rendererPane );
+
 		installStyle();
 	}
 
@@ -530,10 +535,24 @@ public class FlatTableUI
 		}
 
 		// rounded selection or selection insets
-		if( selectionArc > 0 || (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets )) )
-			g = new RoundedSelectionGraphics( g, UIManager.getColor( "Table.alternateRowColor" ) );
+		RoundedSelectionRendererPane pane = (rendererPane instanceof RoundedSelectionRendererPane)
+			? (RoundedSelectionRendererPane) rendererPane
+			: null;
+		if( pane != null &&
+			(selectionArc > 0 || (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets ))) )
+		{
+			pane.enabled = true;
+			pane.alternateRowColor = UIManager.getColor( "Table.alternateRowColor" );
+		}
 
-		super.paint( g, c );
+		try {
+			super.paint( g, c );
+		} finally {
+			if( pane != null ) {
+				pane.enabled = false;
+				pane.alternateRowColor = null;
+			}
+		}
 	}
 
 	protected boolean hideLastVerticalLine() {
@@ -791,7 +810,7 @@ public class FlatTableUI
 		table.repaint( firstRect.union( lastRect ) );
 	}
 
-	//---- class RoundedSelectionGraphics -------------------------------------
+	//---- class RoundedSelectionRendererPane ---------------------------------
 
 	/**
 	 * Because selection painting is done in the cell renderer, it would be
@@ -800,100 +819,54 @@ public class FlatTableUI
 	 * already used in applications. Then either the rounded selection is not used,
 	 * or the application has to be changed to extend a FlatLaf renderer.
 	 * <p>
-	 * To solve this, a graphics proxy is used that paints rounded selection
-	 * if row/column/cell is selected and the renderer wants to fill the background.
+	 * To solve this, this renderer pane paints rounded selection (or alternate row background)
+	 * if the renderer component is opaque and its background is the selection background
+	 * (or the alternate row color). Then the renderer component is painted non-opaque,
+	 * so that it does not fill its background with a rectangle.
 	 */
-	private class RoundedSelectionGraphics
-		extends Graphics2DProxy
+	private class RoundedSelectionRendererPane
+		extends CellRendererPane
 	{
-		private final Color alternateRowColor;
+		boolean enabled;
+		Color alternateRowColor;
 
-		// used to avoid endless loop in case that paintCellSelection() invokes
-		// g.fillRect() with full bounds (selectionInsets is 0,0,0,0)
-		private boolean inPaintSelection;
-
-		RoundedSelectionGraphics( Graphics delegate, Color alternateRowColor ) {
-			super( (Graphics2D) delegate );
-			this.alternateRowColor = alternateRowColor;
-		}
+		private final Point location = new Point();
 
 		@Override
-		public Graphics create() {
-			return new RoundedSelectionGraphics( super.create(), alternateRowColor );
-		}
-
-		@Override
-		public Graphics create( int x, int y, int width, int height ) {
-			return new RoundedSelectionGraphics( super.create( x, y, width, height ), alternateRowColor );
-		}
-
-		@Override
-		public void fillRect( int x, int y, int width, int height ) {
-			if( fillCellSelection( x, y, width, height ) )
-				return;
-
-			super.fillRect( x, y, width, height );
-		}
-
-		@Override
-		public void fill( Shape shape ) {
-			if( shape instanceof Rectangle2D ) {
-				Rectangle2D r = (Rectangle2D) shape;
-				double x = r.getX();
-				double y = r.getY();
-				double width = r.getWidth();
-				double height = r.getHeight();
-				if( x == (int) x && y == (int) y && width == (int) width && height == (int) height ) {
-					if( fillCellSelection( (int) x, (int) y, (int) width, (int) height ) )
-						return;
-				}
-			}
-
-			super.fill( shape );
-		}
-
-		private boolean fillCellSelection( int x, int y, int width, int height ) {
-			if( inPaintSelection )
-				return false;
-
-			Color color;
-			Component rendererComponent;
-			if( x == 0 && y == 0 &&
-				((color = getColor()) == table.getSelectionBackground() ||
-				 (alternateRowColor != null && color == alternateRowColor)) &&
-				(rendererComponent = findActiveRendererComponent()) != null &&
-				width == rendererComponent.getWidth() &&
-				height == rendererComponent.getHeight() )
+		public void paintComponent( Graphics g, Component c, Container p,
+			int x, int y, int w, int h, boolean shouldValidate )
+		{
+			Color background;
+			if( enabled && p == table &&
+				c instanceof JComponent && c.isOpaque() &&
+				((background = c.getBackground()) == table.getSelectionBackground() ||
+				 (alternateRowColor != null && background == alternateRowColor)) )
 			{
-				Point location = rendererComponent.getLocation();
+				location.setLocation( x, y );
 				int row = table.rowAtPoint( location );
 				int column = table.columnAtPoint( location );
 				if( row >= 0 && column >= 0 ) {
-					inPaintSelection = true;
-					if( color == table.getSelectionBackground() )
-						paintCellSelection( this, row, column, x, y, width, height );
+					Color oldColor = g.getColor();
+					g.setColor( background );
+					if( background == table.getSelectionBackground() )
+						paintCellSelection( g, row, column, x, y, w, h );
 					else
-						paintAlternateRowBackground( this, row, column, x, y, width, height );
-					inPaintSelection = false;
-
-					return true;
+						paintAlternateRowBackground( g, row, column, x, y, w, h );
+					g.setColor( oldColor );
+
+					// paint non-opaque renderer
+					JComponent renderer = (JComponent) c;
+					renderer.setOpaque( false );
+					try {
+						super.paintComponent( g, c, p, x, y, w, h, shouldValidate );
+					} finally {
+						renderer.setOpaque( true );
+					}
+					return;
 				}
 			}
-			return false;
-		}
 
-		/**
-		 * A CellRendererPane may contain multiple components, if multiple renderers
-		 * are used. Inactive renderer components have size {@code 0x0}.
-		 */
-		private Component findActiveRendererComponent() {
-			int count = rendererPane.getComponentCount();
-			for( int i = 0; i < count; i++ ) {
-				Component c = rendererPane.getComponent( i );
-				if( c.getWidth() > 0 && c.getHeight() > 0 )
-					return c;
-			}
-			return null;
+			super.paintComponent( g, c, p, x, y, w, h, shouldValidate );
 		}
 	}
 
@@ -915,6 +888,19 @@ public class FlatTableUI
 
 		@Override
 		public void componentMoved( ComponentEvent e ) {
+			// if table is wider than viewport, then the table is moved when scrolling,
+			// but the outside alternate rows are painted over whole viewport width
+			// and do not change --> no need to repaint them on each scroll step,
+			// which would also prevent blit scrolling (see JViewport.BLIT_SCROLL_MODE)
+			// of following scroll steps
+			// (only if outside alternate rows are plain full-width stripes;
+			// with selection arc or insets, their left end is rounded or inset
+			// and would be shifted by blit scrolling)
+			Container viewport = SwingUtilities.getUnwrappedParent( table );
+			if( viewport instanceof JViewport && table.getWidth() >= viewport.getWidth() &&
+				selectionArc <= 0 && (selectionInsets == null || FlatUIUtils.isInsetsEmpty( selectionInsets )) )
+				return;
+
 			repaintAreaBelowTable();
 		}
 
@@ -412,7 +412,12 @@ public class FlatTextFieldUI
 		g.drawRect( r.x, r.y, r.width - 1, r.height - 1 );
 debug*/
 
-		super.paintSafely( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ) );
+		Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+		try {
+			super.paintSafely( g2 );
+		} finally {
+			HiDPIUtils.endGraphicsTextYCorrection( g2 );
+		}
 	}
 
 	@Override
@@ -212,7 +212,12 @@ public class FlatTextPaneUI
 
 	@Override
 	protected void paintSafely( Graphics g ) {
-		super.paintSafely( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ) );
+		Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+		try {
+			super.paintSafely( g2 );
+		} finally {
+			HiDPIUtils.endGraphicsTextYCorrection( g2 );
+		}
 	}
 
 	@Override
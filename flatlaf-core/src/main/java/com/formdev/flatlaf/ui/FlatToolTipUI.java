@@ -126,8 +126,14 @@ public class FlatToolTipUI
 				y += lineHeight;
 				FlatUIUtils.drawString( c, g, line, leftToRight ? x : x2 - SwingUtilities.computeStringWidth( fm, line ), y );
 			}
-		} else
-			super.paint( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ), c );
+		} else {
+			Graphics2D g2 = HiDPIUtils.beginGraphicsTextYCorrection( (Graphics2D) g );
+			try {
+				super.paint( g2, c );
+			} finally {
+				HiDPIUtils.endGraphicsTextYCorrection( g2 );
+			}
+		}
 	}
 
 	private boolean isMultiLine( JComponent c ) {
@@ -176,6 +176,10 @@ public class FlatTreeUI
 	private Color defaultSelectionBorderColor;
 	private Map<String, Object> oldStyleValues;
 
+	// selection state and horizontal bounds of painted rows (including row above and below)
+	// for united rounded selection; computed once per paint
+	private final RowSelectionRun selectionRun = new RowSelectionRun();
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatTreeUI();
 	}
@@ -502,66 +506,79 @@ public class FlatTreeUI
 			boolean leftToRight = tree.getComponentOrientation().isLeftToRight();
 			int treeWidth = tree.getWidth();
 
-			// iterate over visible rows and paint rows, expand control and lines
-			while( visiblePaths.hasMoreElements() ) {
-				TreePath path = visiblePaths.nextElement();
-				if( path == null )
-					break;
-
-				// compute path bounds
-				Rectangle bounds = treeState.getBounds( path, boundsBuffer );
-				if( bounds == null )
-					break;
-
-				// add tree insets to path bounds
-				if( leftToRight )
-					bounds.x += insets.left;
-				else
-					bounds.x = treeWidth - insets.right - (bounds.x + bounds.width);
-				bounds.y += insets.top;
-
-				boolean isLeaf = treeModel.isLeaf( path.getLastPathComponent() );
-				boolean isExpanded = isLeaf ? false : treeState.getExpandedState( path );
-				boolean hasBeenExpanded = isLeaf ? false : tree.hasBeenExpanded( path );
-
-				// paint row (including selection)
-				paintRow( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
-
-				// collect lines for later painting
-				if( paintLines ) {
-					TreePath parentPath = path.getParentPath();
-
-					// add parent for later painting of vertical lines
-					if( parentPath != null )
-						verticalLinePaths.add( parentPath );
-
-					// paint horizontal line later (for using rendering hints)
-					if( parentPath != null || (rootVisible && row == 0) ) {
-						Rectangle bounds2 = new Rectangle( bounds );
-						int row2 = row;
-						paintLinesLater.add( () -> {
-							paintHorizontalPartOfLeg( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
-						} );
-					}
-				}
+			// compute selection run of painted rows
+			if( useUnitedRoundedSelection() && isPaintSelection() && !tree.isSelectionEmpty() ) {
+				TreePath lastPath = getClosestPathForLocation( tree, 0, clipBounds.y + clipBounds.height - 1 );
+				int lastRow = treeState.getRowForPath( lastPath );
+				selectionRun.compute( row - 1, lastRow + 1, !isWideSelection(), boundsBuffer, insets, leftToRight );
+			}
+
+			try {
+				// iterate over visible rows and paint rows, expand control and lines
+				while( visiblePaths.hasMoreElements() ) {
+					TreePath path = visiblePaths.nextElement();
+					if( path == null )
+						break;
+
+					// compute path bounds
+					Rectangle bounds = treeState.getBounds( path, boundsBuffer );
+					if( bounds == null )
+						break;
+
+					// add tree insets to path bounds
+					if( leftToRight )
+						bounds.x += insets.left;
+					else
+						bounds.x = treeWidth - insets.right - (bounds.x + bounds.width);
+					bounds.y += insets.top;
+
+					boolean isLeaf = treeModel.isLeaf( path.getLastPathComponent() );
+					boolean isExpanded = isLeaf ? false : treeState.getExpandedState( path );
+					boolean hasBeenExpanded = isLeaf ? false : tree.hasBeenExpanded( path );
+
+					// paint row (including selection)
+					paintRow( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
 
-				// paint expand control
-				if( shouldPaintExpandControl( path, row, isExpanded, hasBeenExpanded, isLeaf ) ) {
+					// collect lines for later painting
 					if( paintLines ) {
-						// need to paint after painting lines
-						Rectangle bounds2 = new Rectangle( bounds );
-						int row2 = row;
-						paintExpandControlsLater.add( () -> {
-							paintExpandControl( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
-						} );
-					} else
-						paintExpandControl( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
-				}
+						TreePath parentPath = path.getParentPath();
+
+						// add parent for later painting of vertical lines
+						if( parentPath != null )
+							verticalLinePaths.add( parentPath );
+
+						// paint horizontal line later (for using rendering hints)
+						if( parentPath != null || (rootVisible && row == 0) ) {
+							Rectangle bounds2 = new Rectangle( bounds );
+							int row2 = row;
+							paintLinesLater.add( () -> {
+								paintHorizontalPartOfLeg( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
+							} );
+						}
+					}
 
-				if( bounds.y + bounds.height >= clipBounds.y + clipBounds.height )
-					break;
+					// paint expand control
+					if( shouldPaintExpandControl( path, row, isExpanded, hasBeenExpanded, isLeaf ) ) {
+						if( paintLines ) {
+							// need to paint after painting lines
+							Rectangle bounds2 = new Rectangle( bounds );
+							int row2 = row;
+							paintExpandControlsLater.add( () -> {
+								paintExpandControl( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
+							} );
+						} else
+							paintExpandControl( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
+					}
+
+					if( bounds.y + bounds.height >= clipBounds.y + clipBounds.height )
+						break;
 
-				row++;
+					row++;
+				}
+			} finally {
+				// clear selection run also if painting a row failed (e.g. in cell renderer),
+				// otherwise stale rows would be used on later paints
+				selectionRun.clear();
 			}
 
 			if( paintLines ) {
@@ -778,9 +795,9 @@ public class FlatTreeUI
 		arcTop = arcBottom = UIScale.scale( selectionArc / 2f );
 
 		if( useUnitedRoundedSelection() && !paintDropSelection ) {
-			if( row > 0 && tree.isRowSelected( row - 1 ) )
+			if( row > 0 && isRowSelected( row - 1 ) )
 				arcTop = 0;
-			if( row < tree.getRowCount() - 1 && tree.isRowSelected( row + 1 ) )
+			if( row < tree.getRowCount() - 1 && isRowSelected( row + 1 ) )
 				arcBottom = 0;
 		}
 
@@ -808,13 +825,13 @@ public class FlatTreeUI
 			arcTopLeft = arcTopRight = arcBottomLeft = arcBottomRight = UIScale.scale( selectionArc / 2f );
 
 			if( useUnitedRoundedSelection() && !paintDropSelection ) {
-				if( row > 0 && tree.isRowSelected( row - 1 ) ) {
-					Rectangle r = getPathBounds( tree, tree.getPathForRow( row - 1 ) );
+				if( row > 0 && isRowSelected( row - 1 ) ) {
+					Rectangle r = getRowBounds( row - 1 );
 					arcTopLeft = Math.min( arcTopLeft, r.x - bounds.x );
 					arcTopRight = Math.min( arcTopRight, (bounds.x + bounds.width) - (r.x + r.width) );
 				}
-				if( row < tree.getRowCount() - 1 && tree.isRowSelected( row + 1 ) ) {
-					Rectangle r = getPathBounds( tree, tree.getPathForRow( row + 1 ) );
+				if( row < tree.getRowCount() - 1 && isRowSelected( row + 1 ) ) {
+					Rectangle r = getRowBounds( row + 1 );
 					arcBottomLeft = Math.min( arcBottomLeft, r.x - bounds.x );
 					arcBottomRight = Math.min( arcBottomRight, (bounds.x + bounds.width) - (r.x + r.width) );
 				}
@@ -831,6 +848,25 @@ public class FlatTreeUI
 			(selectionInsets == null || (selectionInsets.top == 0 && selectionInsets.bottom == 0));
 	}
 
+	/**
+	 * Same as {@code tree.isRowSelected(row)}, but uses selection run if row is painted.
+	 */
+	private boolean isRowSelected( int row ) {
+		return selectionRun.contains( row )
+			? selectionRun.isSelected( row )
+			: tree.isRowSelected( row );
+	}
+
+	/**
+	 * Same as {@code getPathBounds(tree, tree.getPathForRow(row))}, but uses selection run if row is painted.
+	 * Only x and width of returned rectangle are valid.
+	 */
+	private Rectangle getRowBounds( int row ) {
+		return selectionRun.hasBounds( row )
+			? selectionRun.getBounds( row )
+			: getPathBounds( tree, tree.getPathForRow( row ) );
+	}
+
 	@Override
 	protected void paintVerticalLine( Graphics g, JComponent c, int x, int top, int bottom ) {
 		((Graphics2D)g).fill( new Rectangle2D.Float( x, top, UIScale.scale( 1f ), bottom - top ) );
@@ -870,4 +906,86 @@ public class FlatTreeUI
 	protected boolean isPaintSelection() {
 		return clientPropertyBoolean( tree, TREE_PAINT_SELECTION, paintSelection );
 	}
+
+	//---- class RowSelectionRun ----------------------------------------------
+
+	/**
+	 * Selection state and horizontal bounds of a range of rows.
+	 * Computed once per paint, so that painting united rounded selection
+	 * does not need to query selection model and bounds of neighbor rows for each painted row.
+	 * Arrays are reused for following paints.
+	 */
+	private class RowSelectionRun
+	{
+		private int firstRow;
+		private int rowCount;
+		private boolean withBounds;
+		private boolean[] selected = new boolean[0];
+		private int[] xs = new int[0];
+		private int[] widths = new int[0];
+		private final Rectangle bounds = new Rectangle();
+
+		void compute( int firstRow, int lastRow, boolean withBounds,
+			Rectangle boundsBuffer, Insets insets, boolean leftToRight )
+		{
+			firstRow = Math.max( firstRow, 0 );
+			lastRow = Math.min( lastRow, tree.getRowCount() - 1 );
+			int rowCount = lastRow - firstRow + 1;
+			if( rowCount <= 0 ) {
+				clear();
+				return;
+			}
+
+			if( selected.length < rowCount ) {
+				selected = new boolean[rowCount];
+				xs = new int[rowCount];
+				widths = new int[rowCount];
+			}
+
+			int treeWidth = tree.getWidth();
+			for( int i = 0; i < rowCount; i++ ) {
+				int row = firstRow + i;
+				selected[i] = tree.isRowSelected( row );
+
+				// bounds are only needed for selected rows
+				if( withBounds && selected[i] ) {
+					Rectangle r = treeState.getBounds( treeState.getPathForRow( row ), boundsBuffer );
+					if( r == null ) {
+						clear();
+						return;
+					}
+
+					// same as BasicTreeUI.getPathBounds()
+					xs[i] = leftToRight ? r.x + insets.left : treeWidth - insets.right - (r.x + r.width);
+					widths[i] = r.width;
+				}
+			}
+
+			this.firstRow = firstRow;
+			this.rowCount = rowCount;
+			this.withBounds = withBounds;
+		}
+
+		void clear() {
+			rowCount = 0;
+		}
+
+		boolean contains( int row ) {
+			return row >= firstRow && row < firstRow + rowCount;
+		}
+
+		boolean isSelected( int row ) {
+			return selected[row - firstRow];
+		}
+
+		boolean hasBounds( int row ) {
+			return withBounds && contains( row ) && isSelected( row );
+		}
+
+		Rectangle getBounds( int row ) {
+			bounds.x = xs[row - firstRow];
+			bounds.width = widths[row - firstRow];
+			return bounds;
+		}
+	}
 }
@@ -650,22 +650,40 @@ public class FlatUIUtils
 		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
 		if( (int) systemScaleFactor != systemScaleFactor ) {
 			// paint at scale 1x to avoid clipping on right and bottom edges at 125%, 150% or 175%
-			HiDPIUtils.paintAtScale1x( g, x, y, width, height,
-				(g2d, x2, y2, width2, height2, scaleFactor) -> {
+			// (use reusable parameters and non-capturing lambda to avoid allocations)
+			Scale1xParams params = scale1xParams.get();
+			params.focusWidth = focusWidth;
+			params.focusWidthFraction = focusWidthFraction;
+			params.focusInnerWidth = focusInnerWidth;
+			params.borderWidth = borderWidth;
+			params.arc = arc;
+			params.focusColor = focusColor;
+			params.borderColor = borderColor;
+			params.background = background;
+			params.scrollPane = scrollPane;
+			HiDPIUtils.paintAtScale1x( g, x, y, width, height, params,
+				(g2d, x2, y2, width2, height2, scaleFactor, p) -> {
 					paintOutlinedComponentImpl( g2d, x2, y2, width2, height2,
-						(float) (focusWidth * scaleFactor), focusWidthFraction, (float) (focusInnerWidth * scaleFactor),
-						(float) (borderWidth * scaleFactor), (float) (arc * scaleFactor),
-						focusColor, borderColor, background, scrollPane, scaleFactor );
+						(float) (p.focusWidth * scaleFactor), p.focusWidthFraction, (float) (p.focusInnerWidth * scaleFactor),
+						(float) (p.borderWidth * scaleFactor), (float) (p.arc * scaleFactor),
+						p.focusColor, p.borderColor, p.background, p.scrollPane, scaleFactor );
 				} );
+			params.clear();
 			return;
 		}
 
+		// paint using cached nine-slice image (if enabled and possible)
+		if( FlatNineSlicePainter.isEnabled() &&
+			FlatNineSlicePainter.paintOutlinedComponent( g, x, y, width, height, focusWidth, focusWidthFraction,
+				focusInnerWidth, borderWidth, arc, focusColor, borderColor, background, systemScaleFactor ) )
+		  return;
+
 		paintOutlinedComponentImpl( g, x, y, width, height, focusWidth, focusWidthFraction, focusInnerWidth,
 			borderWidth, arc, focusColor, borderColor, background, scrollPane, systemScaleFactor );
 	}
 
 	@SuppressWarnings( "SelfAssignment" ) // Error Prone
-	private static void paintOutlinedComponentImpl( Graphics2D g, int x, int y, int width, int height,
+	static void paintOutlinedComponentImpl( Graphics2D g, int x, int y, int width, int height,
 		float focusWidth, float focusWidthFraction, float focusInnerWidth, float borderWidth, float arc,
 		Paint focusColor, Paint borderColor, Paint background, boolean scrollPane, double scaleFactor )
 	{
@@ -698,7 +716,10 @@ public class FlatUIUtils
 		//   arc diameter: arc
 		if( background != null ) {
 			g.setPaint( background );
-			g.fill( createComponentRectangle( x1, y1, w1, h1, arc ) );
+			if( FlatShapeCache.isEnabled() )
+				FlatShapeCache.fill( g, FlatShapeCache.getComponentRectangle( w1, h1, arc ), x1, y1 );
+			else
+				g.fill( createComponentRectangle( x1, y1, w1, h1, arc ) );
 		}
 
 		// optimization: paint focus border and border in single operation if colors are equal
@@ -788,6 +809,11 @@ public class FlatUIUtils
 		if( lineWidth == 0 || w <= 0 || h <= 0 )
 			return;
 
+		if( FlatShapeCache.isEnabled() ) {
+			FlatShapeCache.fill( g, FlatShapeCache.getOutline( w, h, lineWidth, arc, innerArc ), x, y );
+			return;
+		}
+
 		float t = lineWidth;
 		float t2x = t * 2;
 
@@ -846,11 +872,17 @@ public class FlatUIUtils
 			double systemScaleFactor = UIScale.getSystemScaleFactor( g );
 			if( systemScaleFactor != (int) systemScaleFactor ) {
 				// paint at scale 1x to avoid clipping on right and bottom edges at 125%, 150% or 175%
-				HiDPIUtils.paintAtScale1x( g, x, y, width, height,
-					(g2d, x2, y2, width2, height2, scaleFactor) -> {
+				// (use reusable parameters and non-capturing lambda to avoid allocations)
+				Scale1xParams params = scale1xParams.get();
+				params.arcTopLeft = arcTopLeft;
+				params.arcTopRight = arcTopRight;
+				params.arcBottomLeft = arcBottomLeft;
+				params.arcBottomRight = arcBottomRight;
+				HiDPIUtils.paintAtScale1x( g, x, y, width, height, params,
+					(g2d, x2, y2, width2, height2, scaleFactor, p) -> {
 						paintRoundedSelectionImpl( g2d, x2, y2, width2, height2,
-							(float) (arcTopLeft * scaleFactor), (float) (arcTopRight * scaleFactor),
-							(float) (arcBottomLeft * scaleFactor), (float) (arcBottomRight * scaleFactor) );
+							(float) (p.arcTopLeft * scaleFactor), (float) (p.arcTopRight * scaleFactor),
+							(float) (p.arcBottomLeft * scaleFactor), (float) (p.arcBottomRight * scaleFactor) );
 					} );
 			} else
 				paintRoundedSelectionImpl( g, x, y, width, height, arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight );
@@ -863,7 +895,11 @@ public class FlatUIUtils
 		float arcTopLeft, float arcTopRight, float arcBottomLeft, float arcBottomRight )
 	{
 		Object[] oldRenderingHints = FlatUIUtils.setRenderingHints( g );
-		g.fill( FlatUIUtils.createRoundRectanglePath( x, y, width, height, arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight ) );
+		if( FlatShapeCache.isEnabled() ) {
+			FlatShapeCache.fill( g, FlatShapeCache.getRoundRectanglePath( width, height,
+				arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight ), x, y );
+		} else
+			g.fill( FlatUIUtils.createRoundRectanglePath( x, y, width, height, arcTopLeft, arcTopRight, arcBottomLeft, arcBottomRight ) );
 		FlatUIUtils.resetRenderingHints( g, oldRenderingHints );
 	}
 
@@ -1091,7 +1127,9 @@ public class FlatUIUtils
 /*debug
 		debugPaintArrow( g, Color.red, vert, Math.round( aw + extra ), Math.round( ah + extra ) );
 debug*/
-		Shape arrowShape = createArrowShape( direction, chevron, aw, ah );
+		Shape arrowShape = FlatShapeCache.isEnabled()
+			? FlatShapeCache.getArrowShape( direction, chevron, aw, ah )
+			: createArrowShape( direction, chevron, aw, ah );
 		if( chevron ) {
 			Stroke oldStroke = g.getStroke();
 			g.setStroke( new BasicStroke( UIScale.scale( arrowThickness ) ) );
@@ -1363,6 +1401,45 @@ debug*/
 		return !FlatStylingSupport.hasStyleProperty( c );
 	}
 
+	//---- class Scale1xParams ------------------------------------------------
+
+	// reusable parameters per thread (painting may also occur on other threads than the AWT thread)
+	private static final ThreadLocal<Scale1xParams> scale1xParams = ThreadLocal.withInitial( Scale1xParams::new );
+
+	/**
+	 * Parameters passed to painters invoked from
+	 * {@link HiDPIUtils#paintAtScale1x(Graphics2D, int, int, int, int, Object, HiDPIUtils.ParamPainter)}.
+	 * <p>
+	 * Painters read all values before they start painting,
+	 * so it is safe to reuse an instance also for nested invocations.
+	 */
+	private static class Scale1xParams
+	{
+		// paintOutlinedComponent()
+		float focusWidth;
+		float focusWidthFraction;
+		float focusInnerWidth;
+		float borderWidth;
+		float arc;
+		Paint focusColor;
+		Paint borderColor;
+		Paint background;
+		boolean scrollPane;
+
+		// paintSelection()
+		float arcTopLeft;
+		float arcTopRight;
+		float arcBottomLeft;
+		float arcBottomRight;
+
+		void clear() {
+			// avoid holding references to paints
+			focusColor = null;
+			borderColor = null;
+			background = null;
+		}
+	}
+
 	//---- class RepaintFocusListener -----------------------------------------
 
 	public static class RepaintFocusListener
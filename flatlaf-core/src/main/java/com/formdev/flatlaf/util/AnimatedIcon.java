@@ -17,7 +17,11 @@
 package com.formdev.flatlaf.util;
 
 import java.awt.Component;
+import java.awt.EventQueue;
 import java.awt.Graphics;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.swing.CellRendererPane;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 import com.formdev.flatlaf.util.Animator.Interpolator;
@@ -59,8 +63,11 @@ import com.formdev.flatlaf.util.Animator.Interpolator;
  * </pre>
  *
  * Animation works only if the component passed to {@link #paintIcon(Component, Graphics, int, int)}
- * is an instance of {@link JComponent}.
- * A client property is set on the component to store the animation state.
+ * is an instance of {@link JComponent}, is not a cell renderer component
+ * and the icon is painted on the event dispatch thread.
+ * The animation state of the component is stored in a weak map
+ * (see {@link #getClientPropertyKey()}), which is accessed only on the event dispatch thread.
+ * Icons painted on other threads (e.g. when printing) are painted without animation.
  *
  * @author Karl Tauber
  */
@@ -126,7 +133,8 @@ public interface AnimatedIcon
 	}
 
 	/**
-	 * Returns the client property key used to store the animation support.
+	 * Returns the key used to store the animation state of components.
+	 * Icons that return the same key share the animation state.
 	 */
 	default Object getClientPropertyKey() {
 		return getClass();
@@ -136,9 +144,23 @@ public interface AnimatedIcon
 
 	/**
 	 * Animation support class that stores the animation state and implements the animation.
+	 * <p>
+	 * The animation state is stored in a (weak identity) map outside of the component.
+	 * If not animating, only the last painted value is stored.
+	 * An instance of this class is created only when an animation starts
+	 * and is removed when the animation ends.
+	 * <p>
+	 * The map is not thread-safe and is accessed only on the event dispatch thread.
+	 * Icons painted on other threads (e.g. when printing or painting
+	 * into an offscreen image) are painted without animation.
 	 */
 	class AnimationSupport
 	{
+		// maps client property key to map of component to animation state
+		// (either last painted value (Float) or an instance of this class while animating)
+		// (accessed only on event dispatch thread)
+		private static final Map<Object, WeakIdentityMap<Component, Object>> statesMap = new WeakHashMap<>();
+
 		private float startValue;
 		private float targetValue;
 		private float animatedValue;
@@ -153,94 +175,120 @@ public interface AnimatedIcon
 		public static void paintIcon( AnimatedIcon icon, Component c, Graphics g, int x, int y ) {
 			if( !isAnimationEnabled( icon, c ) ) {
 				// paint without animation if animation is disabled or
-				// component is not a JComponent and therefore does not support
-				// client properties, which are required to keep animation state
-				paintIconImpl( icon, c, g, x, y, null );
+				// component is not a JComponent or is a renderer component
+				// or not painting on event dispatch thread
+				icon.paintIconAnimated( c, g, x, y, icon.getValue( c ) );
 				return;
 			}
 
-			JComponent jc = (JComponent) c;
-			Object key = icon.getClientPropertyKey();
-			AnimationSupport as = (AnimationSupport) jc.getClientProperty( key );
-			if( as == null ) {
-				// painted first time --> do not animate, but remember current component value
-				as = new AnimationSupport();
-				as.startValue = as.targetValue = as.animatedValue = icon.getValue( c );
-				as.x = x;
-				as.y = y;
-				jc.putClientProperty( key, as );
-			} else {
-				// get component value
-				float value = icon.getValue( c );
-
-				if( value != as.targetValue ) {
-					// value changed --> (re)start animation
-
-					if( as.animator == null ) {
-						// create animator
-						AnimationSupport as2 = as;
-						as.animator = new Animator( icon.getAnimationDuration(), fraction -> {
-							// check whether component was removed while animation is running
-							if( !c.isDisplayable() ) {
-								as2.animator.stop();
-								return;
-							}
-
-							// compute animated value
-							as2.animatedValue = as2.startValue + ((as2.targetValue - as2.startValue) * fraction);
-							as2.fraction = fraction;
-
-							// repaint icon
-							c.repaint( as2.x, as2.y, icon.getIconWidth(), icon.getIconHeight() );
-						}, () -> {
-							as2.startValue = as2.animatedValue = as2.targetValue;
-							as2.animator = null;
-						} );
-					}
-
-					if( as.animator.isRunning() ) {
-						// if animation is still running, restart it from the current
-						// animated value to the new target value with reduced duration
-						as.animator.cancel();
-						int duration2 = (int) (icon.getAnimationDuration() * as.fraction);
-						if( duration2 > 0 )
-							as.animator.setDuration( duration2 );
-						as.startValue = as.animatedValue;
-					} else {
-						// new animation
-						as.animator.setDuration( icon.getAnimationDuration() );
-						as.animator.setResolution( icon.getAnimationResolution() );
-						as.animator.setInterpolator( icon.getAnimationInterpolator() );
-
-						as.animatedValue = as.startValue;
-					}
-
-					as.targetValue = value;
-					as.animator.start();
+			Object state = getState( icon, c );
+			float value = icon.getValue( c );
+
+			if( !(state instanceof AnimationSupport) ) {
+				// not animating
+				if( state == null || (Float) state == value ) {
+					// painted first time or value not changed --> do not animate,
+					// but remember current component value
+					if( state == null )
+						putState( icon, c, value );
+
+					icon.paintIconAnimated( c, g, x, y, value );
+					return;
 				}
 
-				as.x = x;
-				as.y = y;
+				// value changed --> start animation
+				AnimationSupport as = new AnimationSupport();
+				as.startValue = as.targetValue = as.animatedValue = (Float) state;
+				putState( icon, c, as );
+				state = as;
 			}
 
-			paintIconImpl( icon, c, g, x, y, as );
-		}
+			AnimationSupport as = (AnimationSupport) state;
+			if( value != as.targetValue ) {
+				// value changed --> (re)start animation
 
-		private static void paintIconImpl( AnimatedIcon icon, Component c, Graphics g, int x, int y, AnimationSupport as ) {
-			float value = (as != null) ? as.animatedValue : icon.getValue( c );
-			icon.paintIconAnimated( c, g, x, y, value );
+				if( as.animator == null ) {
+					// create animator
+					as.animator = new Animator( icon.getAnimationDuration(), fraction -> {
+						// check whether component was removed or hidden (e.g. in hidden tab
+						// or iconified window) while animation is running;
+						// stop animation (jumps to target value) because repainting is not necessary
+						if( !SwingUtils.isShowingOnScreen( c ) ) {
+							as.animator.stop();
+							return;
+						}
+
+						// compute animated value
+						as.animatedValue = as.startValue + ((as.targetValue - as.startValue) * fraction);
+						as.fraction = fraction;
+
+						// repaint icon
+						c.repaint( as.x, as.y, icon.getIconWidth(), icon.getIconHeight() );
+					}, () -> {
+						// animation ended --> remember only target value
+						putState( icon, c, as.targetValue );
+					} );
+				}
+
+				if( as.animator.isRunning() ) {
+					// if animation is still running, restart it from the current
+					// animated value to the new target value with reduced duration
+					as.animator.cancel();
+					int duration2 = (int) (icon.getAnimationDuration() * as.fraction);
+					if( duration2 > 0 )
+						as.animator.setDuration( duration2 );
+					as.startValue = as.animatedValue;
+				} else {
+					// new animation
+					as.animator.setDuration( icon.getAnimationDuration() );
+					as.animator.setResolution( icon.getAnimationResolution() );
+					as.animator.setInterpolator( icon.getAnimationInterpolator() );
+
+					as.animatedValue = as.startValue;
+				}
+
+				as.targetValue = value;
+				as.animator.start();
+			}
+
+			as.x = x;
+			as.y = y;
+
+			icon.paintIconAnimated( c, g, x, y, as.animatedValue );
 		}
 
 		private static boolean isAnimationEnabled( AnimatedIcon icon, Component c ) {
-			return Animator.useAnimation() && icon.isAnimationEnabled() && c instanceof JComponent;
+			// do not animate renderer components (e.g. checkbox in table or tree),
+			// which are shared by all cells and therefore would animate on each cell paint;
+			// animation state is not thread-safe and animations run on event dispatch thread,
+			// so do not animate when painting on other threads (e.g. printing)
+			return Animator.useAnimation() && icon.isAnimationEnabled() &&
+				c instanceof JComponent && !(c.getParent() instanceof CellRendererPane) &&
+				EventQueue.isDispatchThread();
+		}
+
+		private static Object getState( AnimatedIcon icon, Component c ) {
+			WeakIdentityMap<Component, Object> states = statesMap.get( icon.getClientPropertyKey() );
+			return (states != null) ? states.get( c ) : null;
+		}
+
+		private static void putState( AnimatedIcon icon, Component c, Object state ) {
+			Object key = icon.getClientPropertyKey();
+			WeakIdentityMap<Component, Object> states = statesMap.get( key );
+			if( states == null ) {
+				states = new WeakIdentityMap<>();
+				statesMap.put( key, states );
+			}
+			states.put( c, state );
 		}
 
 		public static void saveIconLocation( AnimatedIcon icon, Component c, int x, int y ) {
 			if( !isAnimationEnabled( icon, c ) )
 				return;
 
-			AnimationSupport as = (AnimationSupport) ((JComponent)c).getClientProperty( icon.getClientPropertyKey() );
-			if( as != null ) {
+			Object state = getState( icon, c );
+			if( state instanceof AnimationSupport ) {
+				AnimationSupport as = (AnimationSupport) state;
 				as.x = x;
 				as.y = y;
 			}
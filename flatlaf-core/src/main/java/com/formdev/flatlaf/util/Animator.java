@@ -17,12 +17,19 @@
 package com.formdev.flatlaf.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import javax.swing.Timer;
 import com.formdev.flatlaf.FlatSystemProperties;
 
 /**
  * Simple animator based on ideas and concepts from "Filthy Rich Clients" book
  * and "Timing Framework" library.
+ * <p>
+ * All running animators are driven by a single shared timer (the animation pulse),
+ * which invokes the timing targets of all animators in one batch per frame.
+ * So repaints requested by timing targets are coalesced by
+ * {@link javax.swing.RepaintManager} and painted in a single pass.
+ * Use {@link #setFrameRate(int)} to change the frame rate of the animation pulse.
  *
  * @author Karl Tauber
  */
@@ -31,6 +38,7 @@ public class Animator
 	private int duration;
 	private int resolution = 10;
 	private Interpolator interpolator;
+	private boolean repeat;
 	private final ArrayList<TimingTarget> targets = new ArrayList<>();
 	private final Runnable endRunnable;
 
@@ -38,7 +46,11 @@ public class Animator
 	private boolean hasBegun;
 	private boolean timeToStop;
 	private long startTime;
-	private Timer timer;
+	private long lastEventTime;
+
+	// metrics
+	private int frameCount;
+	private Object jfrEvent;
 
 	/**
 	 * Checks whether animations are enabled (the default) or disabled via
@@ -49,6 +61,161 @@ public class Animator
 		return FlatSystemProperties.getBoolean( FlatSystemProperties.ANIMATION, true );
 	}
 
+	/**
+	 * Returns the frame rate (frames per second) of the animation pulse
+	 * that drives all running animators.
+	 * Default is 60, or the value of system property {@code flatlaf.animationFrameRate}.
+	 *
+	 * @since 3.8
+	 */
+	public static int getFrameRate() {
+		return Pulse.frameRate;
+	}
+
+	/**
+	 * Sets the frame rate (frames per second) of the animation pulse
+	 * that drives all running animators.
+	 * <p>
+	 * The frame rate limits the resolution of all animators.
+	 * E.g. at 60 frames per second, animators with a resolution of 10 milliseconds
+	 * receive timing events every ~16 milliseconds.
+	 *
+	 * @param frameRate the frame rate in frames per second
+	 * @throws IllegalArgumentException if frame rate is &lt;= zero
+	 * @since 3.8
+	 */
+	public static void setFrameRate( int frameRate ) {
+		if( frameRate <= 0 )
+			throw new IllegalArgumentException();
+		Pulse.setFrameRate( frameRate );
+	}
+
+	/**
+	 * Returns whether the animation governor is enabled (the default).
+	 * The governor measures the latency of the event dispatch thread and
+	 * reduces the frame rate or lets animations jump to their end if the
+	 * event dispatch thread is busy.
+	 *
+	 * @see #getGovernorState()
+	 * @since 3.8
+	 */
+	public static boolean isGovernorEnabled() {
+		synchronized( Pulse.animators ) {
+			return Governor.enabled;
+		}
+	}
+
+	/**
+	 * Enables or disables the animation governor.
+	 * If disabled, animations always run at the configured frame rate.
+	 * <p>
+	 * The default can be changed with system property {@code flatlaf.animationGovernor}.
+	 *
+	 * @since 3.8
+	 */
+	public static void setGovernorEnabled( boolean enabled ) {
+		synchronized( Pulse.animators ) {
+			Governor.enabled = enabled;
+			if( !enabled && Governor.state != GovernorState.NORMAL ) {
+				Governor.setState( GovernorState.NORMAL );
+				Pulse.updateTimerDelay();
+			}
+		}
+	}
+
+	/**
+	 * Returns the current state of the animation governor.
+	 *
+	 * @since 3.8
+	 */
+	public static GovernorState getGovernorState() {
+		synchronized( Pulse.animators ) {
+			return Governor.state;
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the animation governor statistics.
+	 *
+	 * @since 3.8
+	 */
+	public static GovernorStatistics getGovernorStatistics() {
+		synchronized( Pulse.animators ) {
+			return new GovernorStatistics( Governor.state, Governor.frameCount,
+				Governor.droppedFrameCount, Governor.jumpedToEndCount, Governor.stateChangeCount,
+				Governor.averageLatency / 1000000.0, Governor.maxLatency / 1000000.0 );
+		}
+	}
+
+	/**
+	 * Resets the counters of the animation governor statistics to zero.
+	 *
+	 * @since 3.8
+	 */
+	public static void resetGovernorStatistics() {
+		synchronized( Pulse.animators ) {
+			Governor.frameCount = 0;
+			Governor.droppedFrameCount = 0;
+			Governor.jumpedToEndCount = 0;
+			Governor.stateChangeCount = 0;
+			Governor.maxLatency = 0;
+		}
+	}
+
+	/**
+	 * Returns whether animation metrics are collected. Default is {@code false}.
+	 *
+	 * @see #getAnimationMetrics()
+	 * @since 3.8
+	 */
+	public static boolean isMetricsEnabled() {
+		return Metrics.enabled;
+	}
+
+	/**
+	 * Enables or disables collecting of animation metrics
+	 * (see {@link #getAnimationMetrics()}).
+	 * <p>
+	 * If enabled, FlatLaf also emits JFR (Java Flight Recorder) events
+	 * {@code com.formdev.flatlaf.Animation} (for each animation)
+	 * and {@code com.formdev.flatlaf.AnimationFrame} (for each frame of the animation pulse),
+	 * which can be recorded with e.g. {@code -XX:StartFlightRecording}.
+	 * JFR events require Java 11 or later.
+	 * <p>
+	 * The default can be changed with system property {@code flatlaf.animationMetrics}.
+	 *
+	 * @since 3.8
+	 */
+	public static void setMetricsEnabled( boolean enabled ) {
+		Metrics.enabled = enabled;
+	}
+
+	/**
+	 * Returns a snapshot of the animation metrics.
+	 * Metrics are only collected if enabled (see {@link #setMetricsEnabled(boolean)}).
+	 *
+	 * @since 3.8
+	 */
+	public static AnimationMetrics getAnimationMetrics() {
+		synchronized( Pulse.animators ) {
+			return new AnimationMetrics( Metrics.startedCount, Metrics.completedCount,
+				Metrics.cancelledCount, Math.round( Metrics.targetFrameCount ), Metrics.deliveredFrameCount,
+				Metrics.lateFrameHistogram.clone(), Metrics.timingEventCount,
+				Metrics.timingEventTime / 1000000.0, Metrics.maxTimingEventTime / 1000000.0 );
+		}
+	}
+
+	/**
+	 * Resets the animation metrics to zero.
+	 *
+	 * @since 3.8
+	 */
+	public static void resetAnimationMetrics() {
+		synchronized( Pulse.animators ) {
+			Metrics.reset();
+		}
+	}
+
 	/**
 	 * Creates an animation that runs duration milliseconds.
 	 * Use {@link #addTarget(TimingTarget)} to receive timing events
@@ -108,6 +275,10 @@ public class Animator
 	/**
 	 * Returns the resolution of the animation in milliseconds (default is 10).
 	 * Resolution is the amount of time between timing events.
+	 * <p>
+	 * Since FlatLaf 3.8, timing events are delivered on the shared animation pulse,
+	 * so the actual time between timing events is at least one frame
+	 * (see {@link #getFrameRate()}).
 	 */
 	public int getResolution() {
 		return resolution;
@@ -145,6 +316,30 @@ public class Animator
 		this.interpolator = interpolator;
 	}
 
+	/**
+	 * Returns whether the animation repeats. Default is {@code false}.
+	 *
+	 * @since 3.8
+	 */
+	public boolean isRepeat() {
+		return repeat;
+	}
+
+	/**
+	 * Sets whether the animation repeats.
+	 * A repeating animation starts over (with fraction zero) each time the duration elapsed
+	 * and runs until it is stopped.
+	 * It does not jump to its end if the event dispatch thread is overloaded
+	 * (see {@link GovernorState#JUMP_TO_END}), but continues at reduced frame rate.
+	 *
+	 * @throws IllegalStateException if animation is running
+	 * @since 3.8
+	 */
+	public void setRepeat( boolean repeat ) {
+		throwExceptionIfRunning();
+		this.repeat = repeat;
+	}
+
 	/**
 	 * Adds a target to the animation that receives timing events.
 	 *
@@ -183,20 +378,16 @@ public class Animator
 		hasBegun = false;
 		timeToStop = false;
 		startTime = System.nanoTime() / 1000000;
+		frameCount = 0;
 
-		if( timer == null ) {
-			timer = new Timer( resolution, e -> {
-				if( !hasBegun ) {
-					begin();
-					hasBegun = true;
-				}
+		if( Metrics.enabled ) {
+			synchronized( Pulse.animators ) {
+				Metrics.startedCount++;
+			}
+			jfrEvent = AnimatorEvents.animationStarted();
+		}
 
-				timingEvent( getTimingFraction() );
-			} );
-		} else
-			timer.setDelay( resolution );
-		timer.setInitialDelay( 0 );
-		timer.start();
+		Pulse.add( this );
 	}
 
 	/**
@@ -219,8 +410,22 @@ public class Animator
 		if( !running )
 			return;
 
-		if( timer != null )
-			timer.stop();
+		Pulse.remove( this );
+
+		// animation is stopped before it normally ends if it is not time to stop
+		boolean cancelled = !timeToStop;
+		if( Metrics.enabled ) {
+			synchronized( Pulse.animators ) {
+				if( cancelled )
+					Metrics.cancelledCount++;
+				else
+					Metrics.completedCount++;
+			}
+		}
+		if( jfrEvent != null ) {
+			AnimatorEvents.animationStopped( jfrEvent, this, cancelled, frameCount );
+			jfrEvent = null;
+		}
 
 		if( !cancel )
 			end();
@@ -245,10 +450,61 @@ public class Animator
 		return running;
 	}
 
-	private float getTimingFraction() {
-		long currentTime = System.nanoTime() / 1000000;
+	/**
+	 * Invoked on each frame of the animation pulse.
+	 */
+	private void pulse( long currentTime, int frameDuration ) {
+		// check whether animation was stopped while processing current frame
+		if( !running )
+			return;
+
+		// start next cycle of repeating animation
+		if( repeat ) {
+			long elapsedTime = currentTime - startTime;
+			if( elapsedTime >= duration )
+				startTime += elapsedTime - (elapsedTime % duration);
+		}
+
+		// skip frame if resolution is larger than frame duration
+		// (but never skip last frame)
+		if( hasBegun &&
+			currentTime - lastEventTime + (frameDuration / 2) < resolution &&
+			currentTime - startTime < duration )
+			return;
+
+		if( !hasBegun ) {
+			begin();
+			hasBegun = true;
+		}
+
+		lastEventTime = currentTime;
+		timingEvent( getTimingFraction( currentTime ) );
+	}
+
+	/**
+	 * Invoked on each frame of the animation pulse if the event dispatch thread is overloaded.
+	 * Ends the animation immediately.
+	 */
+	private void jumpToEnd() {
+		if( !running )
+			return;
+
+		if( !hasBegun ) {
+			begin();
+			hasBegun = true;
+		}
+
+		synchronized( Pulse.animators ) {
+			Governor.jumpedToEndCount++;
+		}
+
+		// use end time to get last fraction (usually 1)
+		timingEvent( getTimingFraction( startTime + duration ) );
+	}
+
+	private float getTimingFraction( long currentTime ) {
 		long elapsedTime = currentTime - startTime;
-		timeToStop = (elapsedTime >= duration);
+		timeToStop = !repeat && (elapsedTime >= duration);
 
 		float fraction = clampFraction( (float) elapsedTime / duration );
 		if( interpolator != null )
@@ -265,11 +521,24 @@ public class Animator
 	}
 
 	private void timingEvent( float fraction ) {
+		frameCount++;
+
+		long t = Metrics.enabled ? System.nanoTime() : 0;
+
 		synchronized( targets ) {
 			for( TimingTarget target : targets )
 				target.timingEvent( fraction );
 		}
 
+		if( t != 0 ) {
+			long time = System.nanoTime() - t;
+			synchronized( Pulse.animators ) {
+				Metrics.timingEventCount++;
+				Metrics.timingEventTime += time;
+				Metrics.maxTimingEventTime = Math.max( Metrics.maxTimingEventTime, time );
+			}
+		}
+
 		if( timeToStop )
 			stop();
 	}
@@ -296,6 +565,478 @@ public class Animator
 			throw new IllegalStateException();
 	}
 
+	/**
+	 * Returns the class name of the first timing target (for JFR events).
+	 */
+	String getTargetClassName() {
+		synchronized( targets ) {
+			return !targets.isEmpty() ? targets.get( 0 ).getClass().getName() : null;
+		}
+	}
+
+	//---- class Pulse --------------------------------------------------------
+
+	/**
+	 * The animation pulse. A single timer that drives all running animators.
+	 * The timer runs only while at least one animator is running.
+	 */
+	private static class Pulse
+	{
+		private static final ArrayList<Animator> animators = new ArrayList<>();
+		private static int frameRate = Math.max( Integer.getInteger( FlatSystemProperties.ANIMATION_FRAME_RATE, 60 ), 1 );
+		private static Timer timer;
+
+		/** Time (in nanoseconds) when the timer was started or when the last frame was delivered. */
+		private static long lastFrameTime;
+		private static boolean firstFrame;
+
+		static void add( Animator animator ) {
+			synchronized( animators ) {
+				if( !animators.contains( animator ) )
+					animators.add( animator );
+
+				if( timer == null ) {
+					timer = new Timer( getTimerDelay(), e -> pulse() );
+					timer.setInitialDelay( 0 );
+				}
+				if( !timer.isRunning() ) {
+					lastFrameTime = System.nanoTime();
+					firstFrame = true;
+					timer.setDelay( getTimerDelay() );
+					timer.start();
+				}
+			}
+		}
+
+		static void remove( Animator animator ) {
+			synchronized( animators ) {
+				animators.remove( animator );
+			}
+		}
+
+		static void setFrameRate( int frameRate ) {
+			synchronized( animators ) {
+				Pulse.frameRate = frameRate;
+				updateTimerDelay();
+			}
+		}
+
+		private static int getFrameDuration() {
+			return Math.max( 1000 / frameRate, 1 );
+		}
+
+		/**
+		 * Returns the timer delay, which is the frame duration,
+		 * or twice the frame duration if the governor reduced the frame rate.
+		 */
+		private static int getTimerDelay() {
+			int frameDuration = getFrameDuration();
+			return (Governor.state != GovernorState.NORMAL) ? frameDuration * 2 : frameDuration;
+		}
+
+		private static void updateTimerDelay() {
+			if( timer != null )
+				timer.setDelay( getTimerDelay() );
+		}
+
+		private static void pulse() {
+			Animator[] array;
+			int frameDuration;
+			long currentNanos = System.nanoTime();
+			Object frameEvent = null;
+			synchronized( animators ) {
+				// let governor measure frame delivery
+				// (first frame is delivered with initial delay zero and
+				// therefore measures the latency of the event queue)
+				long elapsedTime = currentNanos - lastFrameTime;
+				long expectedDelay = firstFrame ? 0 : timer.getDelay() * 1000000L;
+				if( Metrics.enabled ) {
+					long latency = Math.max( elapsedTime - expectedDelay, 0 );
+					Metrics.frame( elapsedTime, latency, firstFrame );
+					frameEvent = AnimatorEvents.frameStarted( animators.size(), latency );
+				}
+				if( Governor.update( elapsedTime, expectedDelay, firstFrame ) )
+					updateTimerDelay();
+				lastFrameTime = currentNanos;
+				firstFrame = false;
+
+				array = animators.toArray( new Animator[animators.size()] );
+				frameDuration = timer.getDelay();
+			}
+
+			try {
+				// invoke all animators with same time
+				long currentTime = currentNanos / 1000000;
+				boolean jumpToEnd = (Governor.state == GovernorState.JUMP_TO_END);
+				for( Animator animator : array ) {
+					try {
+						if( jumpToEnd && !animator.repeat )
+							animator.jumpToEnd();
+						else
+							animator.pulse( currentTime, frameDuration );
+					} catch( RuntimeException ex ) {
+						// cancel failed animation, but do not let it break other animations
+						LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to process animation frame", ex );
+						animator.cancel();
+					}
+				}
+			} finally {
+				if( frameEvent != null )
+					AnimatorEvents.frameEnded( frameEvent );
+
+				// stop timer if there are no more running animators
+				synchronized( animators ) {
+					if( animators.isEmpty() )
+						timer.stop();
+				}
+			}
+		}
+	}
+
+	//---- enum GovernorState -------------------------------------------------
+
+	/**
+	 * The state of the animation governor.
+	 *
+	 * @see Animator#getGovernorState()
+	 * @since 3.8
+	 */
+	public enum GovernorState {
+		/** Animations run at the configured frame rate. */
+		NORMAL,
+		/** The event dispatch thread is busy. Animations run at half the frame rate. */
+		REDUCED_FRAME_RATE,
+		/** The event dispatch thread is overloaded. Animations jump to their end. */
+		JUMP_TO_END
+	}
+
+	//---- class Governor -----------------------------------------------------
+
+	/**
+	 * Adapts animations to the load of the event dispatch thread.
+	 * <p>
+	 * Measures the latency of each frame (how much later than expected the frame
+	 * was delivered), which increases if the event dispatch thread is busy.
+	 * If the average latency exceeds one frame duration, the frame rate is halved.
+	 * If it exceeds four frame durations (and multiple consecutive frames were that late),
+	 * animations jump to their end.
+	 * The first frame after starting the animation pulse can only reduce the frame rate
+	 * (and also leaves the jump-to-end state of previous animations),
+	 * because it measures the latency of the event queue, which may include a single long event.
+	 * Late frames are skipped anyway, because the timer coalesces events
+	 * and the timing fraction is computed from the elapsed time.
+	 */
+	private static class Governor
+	{
+		private static boolean enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.ANIMATION_GOVERNOR, true );
+		private static GovernorState state = GovernorState.NORMAL;
+
+		// average latency in nanoseconds (exponential moving average)
+		private static long averageLatency;
+		private static int framesSinceStateChange;
+		// number of consecutive frames that were late by more than four frame durations
+		private static int slowFrameCount;
+
+		/** Number of consecutive slow frames required to let animations jump to their end. */
+		private static final int SLOW_FRAMES_FOR_JUMP_TO_END = 4;
+
+		// counters
+		private static long frameCount;
+		private static long droppedFrameCount;
+		private static long jumpedToEndCount;
+		private static long stateChangeCount;
+		private static long maxLatency;
+
+		/**
+		 * Updates statistics and state.
+		 * Returns whether the timer delay needs to be updated.
+		 */
+		static boolean update( long elapsedTime, long expectedDelay, boolean firstFrame ) {
+			long latency = Math.max( elapsedTime - expectedDelay, 0 );
+
+			frameCount++;
+			maxLatency = Math.max( maxLatency, latency );
+			if( expectedDelay > 0 && elapsedTime >= expectedDelay * 2 )
+				droppedFrameCount += (elapsedTime / expectedDelay) - 1;
+
+			long frameDuration = Pulse.getFrameDuration() * 1000000L;
+
+			// on first frame after (re)start of timer, the average is outdated
+			// and is replaced with the latency of the event queue;
+			// this latency may include a single long event queued ahead of the first frame
+			// (e.g. the paint pass that started the animation or the repaint of the whole window
+			// after a look and feel change), so limit it to reduce the frame rate at most
+			averageLatency = firstFrame
+				? Math.min( latency, frameDuration * 2 )
+				: averageLatency + ((latency - averageLatency) / 8);
+			framesSinceStateChange++;
+
+			// jump to end only if multiple consecutive frames were slow
+			// (first frame is not counted because it measures the event queue latency)
+			slowFrameCount = (!firstFrame && latency > frameDuration * 4) ? slowFrameCount + 1 : 0;
+			boolean overloaded = averageLatency > frameDuration * 4 &&
+				slowFrameCount >= SLOW_FRAMES_FOR_JUMP_TO_END;
+
+			if( !enabled ) {
+				if( state == GovernorState.NORMAL )
+					return false;
+				setState( GovernorState.NORMAL );
+				return true;
+			}
+
+			// wait some frames after state change to get new average
+			// (except on first frame, which reflects current load)
+			if( framesSinceStateChange < 4 && !firstFrame )
+				return false;
+
+			GovernorState newState = state;
+			switch( state ) {
+				case NORMAL:
+					if( overloaded )
+						newState = GovernorState.JUMP_TO_END;
+					else if( averageLatency > frameDuration )
+						newState = GovernorState.REDUCED_FRAME_RATE;
+					break;
+
+				case REDUCED_FRAME_RATE:
+					if( overloaded )
+						newState = GovernorState.JUMP_TO_END;
+					else if( averageLatency < frameDuration / 2 )
+						newState = GovernorState.NORMAL;
+					break;
+
+				case JUMP_TO_END:
+					// state is kept when the timer stops because all animations ended,
+					// so the first frame of new animations must leave this state;
+					// otherwise new animations would immediately jump to their end
+					if( averageLatency < frameDuration / 2 )
+						newState = GovernorState.NORMAL;
+					else if( averageLatency < frameDuration * 2 || firstFrame )
+						newState = GovernorState.REDUCED_FRAME_RATE;
+					break;
+			}
+
+			if( newState == state )
+				return false;
+
+			setState( newState );
+			return true;
+		}
+
+		private static void setState( GovernorState newState ) {
+			state = newState;
+			framesSinceStateChange = 0;
+			stateChangeCount++;
+		}
+	}
+
+	//---- class GovernorStatistics -------------------------------------------
+
+	/**
+	 * An immutable snapshot of animation governor statistics.
+	 *
+	 * @see Animator#getGovernorStatistics()
+	 * @since 3.8
+	 */
+	public static class GovernorStatistics
+	{
+		private final GovernorState state;
+		private final long frameCount;
+		private final long droppedFrameCount;
+		private final long jumpedToEndCount;
+		private final long stateChangeCount;
+		private final double averageLatency;
+		private final double maxLatency;
+
+		GovernorStatistics( GovernorState state, long frameCount, long droppedFrameCount,
+			long jumpedToEndCount, long stateChangeCount, double averageLatency, double maxLatency )
+		{
+			this.state = state;
+			this.frameCount = frameCount;
+			this.droppedFrameCount = droppedFrameCount;
+			this.jumpedToEndCount = jumpedToEndCount;
+			this.stateChangeCount = stateChangeCount;
+			this.averageLatency = averageLatency;
+			this.maxLatency = maxLatency;
+		}
+
+		/** Returns the governor state. */
+		public GovernorState getState() { return state; }
+		/** Returns the number of delivered frames. */
+		public long getFrameCount() { return frameCount; }
+		/** Returns the number of frames that were skipped because the event dispatch thread was busy. */
+		public long getDroppedFrameCount() { return droppedFrameCount; }
+		/** Returns the number of animations that jumped to their end. */
+		public long getJumpedToEndCount() { return jumpedToEndCount; }
+		/** Returns the number of governor state changes. */
+		public long getStateChangeCount() { return stateChangeCount; }
+		/** Returns the average frame latency in milliseconds. */
+		public double getAverageLatency() { return averageLatency; }
+		/** Returns the maximum frame latency in milliseconds. */
+		public double getMaxLatency() { return maxLatency; }
+
+		@Override
+		public String toString() {
+			return "state=" + state + ", frames=" + frameCount + ", dropped=" + droppedFrameCount
+				+ ", jumpedToEnd=" + jumpedToEndCount + ", stateChanges=" + stateChangeCount
+				+ String.format( ", averageLatency=%.1fms, maxLatency=%.1fms", averageLatency, maxLatency );
+		}
+	}
+
+	//---- class Metrics ------------------------------------------------------
+
+	/**
+	 * Collects animation metrics (if enabled).
+	 * Counters are guarded by {@code Pulse.animators}.
+	 */
+	private static class Metrics
+	{
+		private static volatile boolean enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.ANIMATION_METRICS, false );
+
+		private static long startedCount;
+		private static long completedCount;
+		private static long cancelledCount;
+
+		private static double targetFrameCount;
+		private static long deliveredFrameCount;
+		private static final long[] lateFrameHistogram = new long[AnimationMetrics.LATE_FRAME_BUCKET_COUNT];
+
+		// times in nanoseconds
+		private static long timingEventCount;
+		private static long timingEventTime;
+		private static long maxTimingEventTime;
+
+		static void frame( long elapsedTime, long latency, boolean firstFrame ) {
+			// number of frames that should have been delivered at the configured frame rate
+			// since last frame (first frame is delivered immediately)
+			targetFrameCount += firstFrame ? 1 : (double) elapsedTime / (Pulse.getFrameDuration() * 1000000L);
+			deliveredFrameCount++;
+
+			lateFrameHistogram[lateFrameBucket( latency / 1000000 )]++;
+		}
+
+		/**
+		 * Returns histogram bucket for the given latency in milliseconds.
+		 * Bucket 0 contains frames that are less than one millisecond late,
+		 * bucket n contains frames that are 2^(n-1) to 2^n milliseconds late.
+		 */
+		static int lateFrameBucket( long latencyMillis ) {
+			int bucket = 64 - Long.numberOfLeadingZeros( latencyMillis );
+			return Math.min( bucket, AnimationMetrics.LATE_FRAME_BUCKET_COUNT - 1 );
+		}
+
+		static void reset() {
+			startedCount = 0;
+			completedCount = 0;
+			cancelledCount = 0;
+			targetFrameCount = 0;
+			deliveredFrameCount = 0;
+			Arrays.fill( lateFrameHistogram, 0 );
+			timingEventCount = 0;
+			timingEventTime = 0;
+			maxTimingEventTime = 0;
+		}
+	}
+
+	//---- class AnimationMetrics ---------------------------------------------
+
+	/**
+	 * An immutable snapshot of animation metrics.
+	 *
+	 * @see Animator#getAnimationMetrics()
+	 * @since 3.8
+	 */
+	public static class AnimationMetrics
+	{
+		/** The number of buckets of the late frame histogram. */
+		public static final int LATE_FRAME_BUCKET_COUNT = 9;
+
+		private final long startedCount;
+		private final long completedCount;
+		private final long cancelledCount;
+		private final long targetFrameCount;
+		private final long deliveredFrameCount;
+		private final long[] lateFrameHistogram;
+		private final long timingEventCount;
+		private final double timingEventTime;
+		private final double maxTimingEventTime;
+
+		AnimationMetrics( long startedCount, long completedCount, long cancelledCount,
+			long targetFrameCount, long deliveredFrameCount, long[] lateFrameHistogram,
+			long timingEventCount, double timingEventTime, double maxTimingEventTime )
+		{
+			this.startedCount = startedCount;
+			this.completedCount = completedCount;
+			this.cancelledCount = cancelledCount;
+			this.targetFrameCount = targetFrameCount;
+			this.deliveredFrameCount = deliveredFrameCount;
+			this.lateFrameHistogram = lateFrameHistogram;
+			this.timingEventCount = timingEventCount;
+			this.timingEventTime = timingEventTime;
+			this.maxTimingEventTime = maxTimingEventTime;
+		}
+
+		/** Returns the number of started animations. */
+		public long getStartedCount() { return startedCount; }
+		/** Returns the number of animations that ran to their end. */
+		public long getCompletedCount() { return completedCount; }
+		/** Returns the number of animations that were stopped or cancelled before their end. */
+		public long getCancelledCount() { return cancelledCount; }
+		/** Returns the number of frames that should have been delivered at the configured frame rate. */
+		public long getTargetFrameCount() { return targetFrameCount; }
+		/** Returns the number of frames delivered by the animation pulse. */
+		public long getDeliveredFrameCount() { return deliveredFrameCount; }
+		/** Returns the number of invocations of {@link TimingTarget#timingEvent(float)} (per animator). */
+		public long getTimingEventCount() { return timingEventCount; }
+		/** Returns the total time in milliseconds spent in {@link TimingTarget#timingEvent(float)}. */
+		public double getTimingEventTime() { return timingEventTime; }
+		/** Returns the maximum time in milliseconds spent in {@link TimingTarget#timingEvent(float)} (per animator and frame). */
+		public double getMaxTimingEventTime() { return maxTimingEventTime; }
+
+		/**
+		 * Returns the histogram of late frames (how much later than expected frames were delivered).
+		 * The array has {@link #LATE_FRAME_BUCKET_COUNT} elements.
+		 * Bucket 0 contains the number of frames that are less than 1ms late (on time).
+		 * Bucket n contains the number of frames that are
+		 * {@code 2^(n-1)}ms to {@code 2^n}ms late.
+		 * The last bucket contains all frames that are 128ms or more late.
+		 *
+		 * @see #getLateFrameBucketStart(int)
+		 */
+		public long[] getLateFrameHistogram() {
+			return lateFrameHistogram.clone();
+		}
+
+		/**
+		 * Returns the lower bound (in milliseconds) of the given late frame histogram bucket.
+		 */
+		public static int getLateFrameBucketStart( int bucket ) {
+			return (bucket > 0) ? 1 << (bucket - 1) : 0;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder buf = new StringBuilder();
+			buf.append( "started=" ).append( startedCount )
+				.append( ", completed=" ).append( completedCount )
+				.append( ", cancelled=" ).append( cancelledCount )
+				.append( ", targetFrames=" ).append( targetFrameCount )
+				.append( ", deliveredFrames=" ).append( deliveredFrameCount )
+				.append( ", timingEvents=" ).append( timingEventCount )
+				.append( String.format( ", timingEventTime=%.1fms, maxTimingEventTime=%.2fms",
+					timingEventTime, maxTimingEventTime ) )
+				.append( ", lateFrames=[" );
+			for( int i = 0; i < lateFrameHistogram.length; i++ ) {
+				if( i > 0 )
+					buf.append( ", " );
+				buf.append( (i < lateFrameHistogram.length - 1) ? "<" : ">=" )
+					.append( getLateFrameBucketStart( (i < lateFrameHistogram.length - 1) ? i + 1 : i ) )
+					.append( "ms:" ).append( lateFrameHistogram[i] );
+			}
+			return buf.append( ']' ).toString();
+		}
+	}
+
 	//---- interface TimingTarget ---------------------------------------------
 
 	/**
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+/**
+ * Emits JFR (Java Flight Recorder) events for animations.
+ * <p>
+ * This is the Java 8 implementation, which does nothing.
+ * The Java 11+ implementation is in {@code src/main/java9}.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class AnimatorEvents
+{
+	/**
+	 * Invoked when an animation starts.
+	 * Returns an event object that is passed to {@link #animationStopped},
+	 * or {@code null} if JFR is not available or the event is not enabled.
+	 */
+	static Object animationStarted() {
+		return null;
+	}
+
+	static void animationStopped( Object event, Animator animator, boolean cancelled, int frameCount ) {
+	}
+
+	/**
+	 * Invoked when a frame of the animation pulse starts.
+	 * Returns an event object that is passed to {@link #frameEnded},
+	 * or {@code null} if JFR is not available or the event is not enabled.
+	 */
+	static Object frameStarted( int animatorCount, long latency ) {
+		return null;
+	}
+
+	static void frameEnded( Object event ) {
+	}
+}
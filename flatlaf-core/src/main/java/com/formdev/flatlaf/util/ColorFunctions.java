@@ -20,6 +20,13 @@ import java.awt.Color;
 
 /**
  * Functions that modify colors.
+ * <p>
+ * Most functions are available in two variants:
+ * One that works with {@link Color} objects and one that works with
+ * packed ARGB {@code int} values (as returned by {@link Color#getRGB()}).
+ * The latter do not allocate objects and use a caller-supplied
+ * {@code float[4]} scratch buffer for HSL computations,
+ * which makes them suitable for use in paint code.
  *
  * @author Karl Tauber
  */
@@ -89,20 +96,107 @@ public class ColorFunctions
 		return hslIncreaseDecrease( color, angle, 0, true );
 	}
 
+	/**
+	 * Increase the lightness of a color in HSL color space by an absolute amount.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param amount the amount (in range 0-1) that is added to the lightness
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @return new color as packed ARGB value
+	 * @see #lighten(Color, float)
+	 * @since 3.8
+	 */
+	public static int lighten( int argb, float amount, float[] hsla ) {
+		return hslIncreaseDecrease( argb, amount, 2, true, hsla );
+	}
+
+	/**
+	 * Decrease the lightness of a color in HSL color space by an absolute amount.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param amount the amount (in range 0-1) that is subtracted from the lightness
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @return new color as packed ARGB value
+	 * @see #darken(Color, float)
+	 * @since 3.8
+	 */
+	public static int darken( int argb, float amount, float[] hsla ) {
+		return hslIncreaseDecrease( argb, amount, 2, false, hsla );
+	}
+
+	/**
+	 * Increase the saturation of a color in HSL color space by an absolute amount.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param amount the amount (in range 0-1) that is added to the saturation
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @return new color as packed ARGB value
+	 * @see #saturate(Color, float)
+	 * @since 3.8
+	 */
+	public static int saturate( int argb, float amount, float[] hsla ) {
+		return hslIncreaseDecrease( argb, amount, 1, true, hsla );
+	}
+
+	/**
+	 * Decrease the saturation of a color in HSL color space by an absolute amount.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param amount the amount (in range 0-1) that is subtracted from the saturation
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @return new color as packed ARGB value
+	 * @see #desaturate(Color, float)
+	 * @since 3.8
+	 */
+	public static int desaturate( int argb, float amount, float[] hsla ) {
+		return hslIncreaseDecrease( argb, amount, 1, false, hsla );
+	}
+
+	/**
+	 * Rotate the hue angle (0-360) of a color in HSL color space in either direction.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param angle the number of degrees to rotate (in range -360 - 360)
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @return new color as packed ARGB value
+	 * @see #spin(Color, float)
+	 * @since 3.8
+	 */
+	public static int spin( int argb, float angle, float[] hsla ) {
+		return hslIncreaseDecrease( argb, angle, 0, true, hsla );
+	}
+
 	private static Color hslIncreaseDecrease( Color color, float amount, int hslIndex, boolean increase ) {
 		// convert RGB to HSL
-		float[] hsl = HSLColor.fromRGB( color );
+		float[] hsla = new float[4];
+		HSLColor.fromRGB( color, hsla );
 		float alpha = color.getAlpha() / 255f;
 
 		// apply HSL color change
+		hslIncreaseDecrease( hsla, amount, hslIndex, increase );
+
+		// convert HSL to RGB
+		return HSLColor.toRGB( hsla[0], hsla[1], hsla[2], alpha );
+	}
+
+	private static int hslIncreaseDecrease( int argb, float amount, int hslIndex, boolean increase, float[] hsla ) {
+		// convert RGB to HSL
+		HSLColor.fromRGB( argb, hsla );
+		float alpha = ((argb >> 24) & 0xff) / 255f;
+
+		// apply HSL color change
+		hslIncreaseDecrease( hsla, amount, hslIndex, increase );
+
+		// convert HSL to RGB
+		return HSLColor.toARGB( hsla[0], hsla[1], hsla[2], alpha );
+	}
+
+	private static void hslIncreaseDecrease( float[] hsl, float amount, int hslIndex, boolean increase ) {
 		float amount2 = increase ? amount : -amount;
 		if( hslIndex == 0 )
 			hsl[0] = (hsl[0] + amount2) % 360;
 		else
 			hsl[hslIndex] = clamp( hsl[hslIndex] + (amount2 * 100) );
-
-		// convert HSL to RGB
-		return HSLColor.toRGB( hsl[0], hsl[1], hsl[2], alpha );
 	}
 
 	/**
@@ -114,8 +208,21 @@ public class ColorFunctions
 	 * @since 3
 	 */
 	public static Color fade( Color color, float amount ) {
+		return new Color( fade( color.getRGB(), amount ), true );
+	}
+
+	/**
+	 * Set the opacity (alpha) of a color.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param amount the amount (in range 0-1) of the new opacity
+	 * @return new color as packed ARGB value
+	 * @see #fade(Color, float)
+	 * @since 3.8
+	 */
+	public static int fade( int argb, float amount ) {
 		int newAlpha = Math.round( 255 * amount );
-		return new Color( (color.getRGB() & 0xffffff) | (newAlpha << 24), true );
+		return (argb & 0xffffff) | (newAlpha << 24);
 	}
 
 	/**
@@ -129,6 +236,8 @@ public class ColorFunctions
 	 * @param weight the weight of first color (in range 0-1), used to mix the two colors.
 	 *               Weight of second color is {@code 1-weight}.
 	 *               Larger weight uses more of first color, smaller weight more of second color.
+	 *               Weights outside of range 0-1 are clamped
+	 *               ({@code >= 1} returns first color, {@code <= 0} returns second color).
 	 * @return mixture of colors
 	 */
 	public static Color mix( Color color1, Color color2, float weight ) {
@@ -139,21 +248,45 @@ public class ColorFunctions
 		if( color1.equals( color2 ) )
 			return color1;
 
-		int r1 = color1.getRed();
-		int g1 = color1.getGreen();
-		int b1 = color1.getBlue();
-		int a1 = color1.getAlpha();
-
-		int r2 = color2.getRed();
-		int g2 = color2.getGreen();
-		int b2 = color2.getBlue();
-		int a2 = color2.getAlpha();
+		return new Color( mix( color1.getRGB(), color2.getRGB(), weight ), true );
+	}
 
-		return new Color(
-			Math.round( r2 + ((r1 - r2) * weight) ),
-			Math.round( g2 + ((g1 - g2) * weight) ),
-			Math.round( b2 + ((b1 - b2) * weight) ),
-			Math.round( a2 + ((a1 - a2) * weight) ) );
+	/**
+	 * Returns a color that is a mixture of two colors.
+	 *
+	 * @param argb1 first color as packed ARGB value
+	 * @param argb2 second color as packed ARGB value
+	 * @param weight the weight of first color (in range 0-1), used to mix the two colors.
+	 *               Weight of second color is {@code 1-weight}.
+	 *               Larger weight uses more of first color, smaller weight more of second color.
+	 *               Weights outside of range 0-1 are clamped
+	 *               ({@code >= 1} returns first color, {@code <= 0} returns second color),
+	 *               same as in {@link #mix(Color, Color, float)}.
+	 * @return mixture of colors as packed ARGB value
+	 * @see #mix(Color, Color, float)
+	 * @since 3.8
+	 */
+	public static int mix( int argb1, int argb2, float weight ) {
+		if( weight >= 1 || argb1 == argb2 )
+			return argb1;
+		if( weight <= 0 )
+			return argb2;
+
+		int r1 = (argb1 >> 16) & 0xff;
+		int g1 = (argb1 >> 8) & 0xff;
+		int b1 = argb1 & 0xff;
+		int a1 = (argb1 >> 24) & 0xff;
+
+		int r2 = (argb2 >> 16) & 0xff;
+		int g2 = (argb2 >> 8) & 0xff;
+		int b2 = argb2 & 0xff;
+		int a2 = (argb2 >> 24) & 0xff;
+
+		int r = Math.round( r2 + ((r1 - r2) * weight) );
+		int g = Math.round( g2 + ((g1 - g2) * weight) );
+		int b = Math.round( b2 + ((b1 - b2) * weight) );
+		int a = Math.round( a2 + ((a1 - a2) * weight) );
+		return (a << 24) | (r << 16) | (g << 8) | b;
 	}
 
 	/**
@@ -184,6 +317,32 @@ public class ColorFunctions
 		return mix( Color.black, color, weight );
 	}
 
+	/**
+	 * Mix color with white, which makes the color brighter.
+	 *
+	 * @param argb second color as packed ARGB value
+	 * @param weight the weight (in range 0-1) to mix the two colors.
+	 * @return mixture of colors as packed ARGB value
+	 * @see #tint(Color, float)
+	 * @since 3.8
+	 */
+	public static int tint( int argb, float weight ) {
+		return mix( 0xffffffff, argb, weight );
+	}
+
+	/**
+	 * Mix color with black, which makes the color darker.
+	 *
+	 * @param argb second color as packed ARGB value
+	 * @param weight the weight (in range 0-1) to mix the two colors.
+	 * @return mixture of colors as packed ARGB value
+	 * @see #shade(Color, float)
+	 * @since 3.8
+	 */
+	public static int shade( int argb, float weight ) {
+		return mix( 0xff000000, argb, weight );
+	}
+
 	/**
 	 * Calculates the luma (perceptual brightness) of the given color.
 	 * <p>
@@ -197,12 +356,24 @@ public class ColorFunctions
 	 * @since 2
 	 */
 	public static float luma( Color color ) {
+		return luma( color.getRGB() );
+	}
+
+	/**
+	 * Calculates the luma (perceptual brightness) of the given color.
+	 *
+	 * @param argb a color as packed ARGB value
+	 * @return the luma (in range 0-1)
+	 * @see #luma(Color)
+	 * @since 3.8
+	 */
+	public static float luma( int argb ) {
 		// see https://en.wikipedia.org/wiki/Luma_(video)
 		// see https://www.w3.org/TR/2008/REC-WCAG20-20081211/#relativeluminancedef
 		// see https://github.com/less/less.js/blob/master/packages/less/src/less/tree/color.js
-		float r = gammaCorrection( color.getRed() / 255f );
-		float g = gammaCorrection( color.getGreen() / 255f );
-		float b = gammaCorrection( color.getBlue() / 255f );
+		float r = gammaCorrection( ((argb >> 16) & 0xff) / 255f );
+		float g = gammaCorrection( ((argb >> 8) & 0xff) / 255f );
+		float b = gammaCorrection( (argb & 0xff) / 255f );
 		return (0.2126f * r) + (0.7152f * g) + (0.0722f * b);
 	}
 
@@ -231,9 +402,10 @@ public class ColorFunctions
 		}
 
 		// convert RGB to HSL
-		float[] hsl = HSLColor.fromRGB( color );
+		float[] hsla = new float[4];
+		HSLColor.fromRGB( color, hsla );
 		float alpha = color.getAlpha() / 255f;
-		float[] hsla = { hsl[0], hsl[1], hsl[2], alpha * 100 };
+		hsla[3] = alpha * 100;
 
 		// apply color functions
 		for( ColorFunction function : functions )
@@ -243,6 +415,35 @@ public class ColorFunctions
 		return HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 	}
 
+	/**
+	 * Applies the given color functions to the given color and returns the new color.
+	 * Does not allocate any objects.
+	 *
+	 * @param argb base color as packed ARGB value
+	 * @param hsla scratch buffer with a length of at least 4
+	 * @param functions the color functions
+	 * @return new color as packed ARGB value
+	 * @see #applyFunctions(Color, ColorFunction...)
+	 * @since 3.8
+	 */
+	public static int applyFunctions( int argb, float[] hsla, ColorFunction... functions ) {
+		// if having only a single function, then avoid unnecessary conversions (e.g. for Mix)
+		if( functions.length == 1 )
+			return functions[0].apply( argb, hsla );
+
+		// convert RGB to HSL
+		HSLColor.fromRGB( argb, hsla );
+		float alpha = ((argb >> 24) & 0xff) / 255f;
+		hsla[3] = alpha * 100;
+
+		// apply color functions
+		for( ColorFunction function : functions )
+			function.apply( hsla );
+
+		// convert HSL to RGB
+		return HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+	}
+
 	/**
 	 * Clamps the given value between 0 and 100.
 	 */
@@ -258,6 +459,30 @@ public class ColorFunctions
 
 	public interface ColorFunction {
 		void apply( float[] hsla );
+
+		/**
+		 * Applies this function to the given color.
+		 * Does not allocate any objects.
+		 * <p>
+		 * The default implementation converts the color to HSL,
+		 * invokes {@link #apply(float[])} and converts the result back to RGB.
+		 *
+		 * @param argb color as packed ARGB value
+		 * @param hsla scratch buffer with a length of at least 4
+		 * @return new color as packed ARGB value
+		 * @since 3.8
+		 */
+		default int apply( int argb, float[] hsla ) {
+			// convert RGB to HSL
+			HSLColor.fromRGB( argb, hsla );
+			float alpha = ((argb >> 24) & 0xff) / 255f;
+			hsla[3] = alpha * 100;
+
+			apply( hsla );
+
+			// convert HSL to RGB
+			return HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+		}
 	}
 
 	//---- class HSLIncreaseDecrease ------------------------------------------
@@ -412,15 +637,19 @@ public class ColorFunctions
 		@Override
 		public void apply( float[] hsla ) {
 			// convert from HSL to RGB because color mixing is done on RGB values
-			Color color1 = HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+			int argb1 = HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 
 			// mix
-			Color color = mix( color1, color2, weight / 100 );
+			int argb = mix( argb1, color2.getRGB(), weight / 100 );
 
 			// convert RGB to HSL
-			float[] hsl = HSLColor.fromRGB( color );
-			System.arraycopy( hsl, 0, hsla, 0, hsl.length );
-			hsla[3] = (color.getAlpha() / 255f) * 100;
+			HSLColor.fromRGB( argb, hsla );
+			hsla[3] = (((argb >> 24) & 0xff) / 255f) * 100;
+		}
+
+		@Override
+		public int apply( int argb, float[] hsla ) {
+			return mix( argb, color2.getRGB(), weight / 100 );
 		}
 
 		@Override
@@ -452,15 +681,19 @@ public class ColorFunctions
 		@Override
 		public void apply( float[] hsla ) {
 			// convert from HSL to RGB because color mixing is done on RGB values
-			Color color2 = HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+			int argb2 = HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 
 			// mix
-			Color color = mix( color1, color2, weight / 100 );
+			int argb = mix( color1.getRGB(), argb2, weight / 100 );
 
 			// convert RGB to HSL
-			float[] hsl = HSLColor.fromRGB( color );
-			System.arraycopy( hsl, 0, hsla, 0, hsl.length );
-			hsla[3] = (color.getAlpha() / 255f) * 100;
+			HSLColor.fromRGB( argb, hsla );
+			hsla[3] = (((argb >> 24) & 0xff) / 255f) * 100;
+		}
+
+		@Override
+		public int apply( int argb, float[] hsla ) {
+			return mix( color1.getRGB(), argb, weight / 100 );
 		}
 
 		@Override
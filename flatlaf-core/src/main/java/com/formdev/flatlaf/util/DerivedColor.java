@@ -35,22 +35,41 @@ public class DerivedColor
 	private boolean hasBaseOfDefaultColor;
 	private int baseOfDefaultColorRGB;
 
+	// small cache of recently derived colors (usually there are only a few different
+	// base colors per derived color; e.g. for components with custom background)
+	private static final int CACHE_SIZE = 4;
+	private final DerivedEntry[] cache = new DerivedEntry[CACHE_SIZE];
+	private int nextCacheIndex;
+
 	public DerivedColor( Color defaultColor, ColorFunction... functions ) {
 		super( (defaultColor != null) ? defaultColor : Color.red );
 		this.functions = functions;
 	}
 
 	public Color derive( Color baseColor ) {
-		if( (hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseColor.getRGB()) || baseColor == this )
+		int baseRGB = baseColor.getRGB();
+		if( (hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseRGB) || baseColor == this )
 			return this; // return default color
 
+		// use cached result (functions are immutable, so result only depends on base color)
+		for( DerivedEntry entry : cache ) {
+			if( entry != null && entry.baseRGB == baseRGB )
+				return entry.result;
+		}
+
 		Color result = ColorFunctions.applyFunctions( baseColor, functions );
 
 		// if the result is equal to the default color, then the original base color
 		// was passed, and we can cache this to avoid color calculations
 		if( !hasBaseOfDefaultColor && result.getRGB() == this.getRGB() ) {
 			hasBaseOfDefaultColor = true;
-			baseOfDefaultColorRGB = baseColor.getRGB();
+			baseOfDefaultColorRGB = baseRGB;
+		} else {
+			// entries are immutable, so it is safe to access the cache from multiple threads
+			// without synchronization (in worst case a result is computed twice)
+			int index = nextCacheIndex;
+			cache[index] = new DerivedEntry( baseRGB, result );
+			nextCacheIndex = (index + 1) % CACHE_SIZE;
 		}
 
 		return result;
@@ -72,4 +91,17 @@ public class DerivedColor
 
 		return buf.toString();
 	}
+
+	//---- class DerivedEntry -------------------------------------------------
+
+	private static class DerivedEntry
+	{
+		final int baseRGB;
+		final Color result;
+
+		DerivedEntry( int baseRGB, Color result ) {
+			this.baseRGB = baseRGB;
+			this.result = result;
+		}
+	}
 }
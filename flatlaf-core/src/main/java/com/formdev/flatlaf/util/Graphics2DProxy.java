@@ -49,12 +49,19 @@ import java.util.Map;
 public class Graphics2DProxy
 	extends Graphics2D
 {
-	private final Graphics2D delegate;
+	private Graphics2D delegate;
 
 	public Graphics2DProxy( Graphics2D delegate ) {
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Changes the delegate. Used to reuse proxy instances.
+	 */
+	void setDelegate( Graphics2D delegate ) {
+		this.delegate = delegate;
+	}
+
 	@Override
 	public Graphics create() {
 		return delegate.create();
@@ -1,17 +1,31 @@
 // Copyright 2000-2020 JetBrains s.r.o. Use of this source code is governed by the Apache 2.0 license that can be found in the LICENSE file.
 package com.formdev.flatlaf.util;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
 import java.awt.image.RGBImageFilter;
+import java.awt.image.WritableRaster;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 // based on https://github.com/JetBrains/intellij-community/blob/3840eab54746f5c4f301bb3ac78f00a980b5fd6e/platform/util/ui/src/com/intellij/util/ui/UIUtil.java#L253-L347
 
 /**
  * An image filter that turns an image into a grayscale image.
  * Used for icons in disabled buttons and labels.
+ * <p>
+ * Besides the {@link java.awt.image.ImageProducer} based filtering
+ * (via {@link java.awt.image.FilteredImageSource}), this class supports
+ * filtering pixel arrays and buffered images directly
+ * (see {@link #filterRGB(int[], int, int)} and {@link #filter(BufferedImage)}),
+ * which is much faster.
  */
 public class GrayFilter
 	extends RGBImageFilter
 {
+	/** Images with more pixels are filtered in parallel using the common fork-join pool. */
+	private static final int PARALLEL_THRESHOLD = 256 * 256;
+
 	private final float brightness;
 	private final float contrast;
 	private final int alpha;
@@ -19,6 +33,9 @@ public class GrayFilter
 	private final int origContrast;
 	private final int origBrightness;
 
+	// whether a subclass overrides filterRGB(int,int,int)
+	private final boolean filterRGBOverridden;
+
 	public static GrayFilter createDisabledIconFilter( boolean dark ) {
 		return dark
 			? new GrayFilter( -20, -70, 100 )
@@ -39,6 +56,7 @@ public class GrayFilter
 		this.contrast = origContrast / 100f;
 
 		canFilterIndexColorModel = true;
+		filterRGBOverridden = isFilterRGBOverridden( getClass() );
 	}
 
 	public GrayFilter() {
@@ -59,6 +77,89 @@ public class GrayFilter
 
 	@Override
 	public int filterRGB( int x, int y, int rgb ) {
+		return filterPixel( rgb );
+	}
+
+	/**
+	 * Filters the given pixels (in default RGB color model) in place.
+	 *
+	 * @param pixels the pixels in default RGB color model
+	 * @param offset the index of the first pixel to filter
+	 * @param length the number of pixels to filter
+	 * @since 3.8
+	 */
+	public void filterRGB( int[] pixels, int offset, int length ) {
+		int end = offset + length;
+		if( filterRGBOverridden ) {
+			for( int i = offset; i < end; i++ )
+				pixels[i] = filterRGB( 0, 0, pixels[i] );
+		} else {
+			for( int i = offset; i < end; i++ )
+				pixels[i] = filterPixel( pixels[i] );
+		}
+	}
+
+	/**
+	 * Filters the pixels of the given image in place.
+	 * Large images are filtered in parallel using the common fork-join pool.
+	 * <p>
+	 * Supports images of type {@link BufferedImage#TYPE_INT_ARGB} and {@link BufferedImage#TYPE_INT_RGB}.
+	 * Other image types are filtered using {@link BufferedImage#getRGB(int, int, int, int, int[], int, int)}
+	 * and {@link BufferedImage#setRGB(int, int, int, int, int[], int, int)}, which is slower.
+	 *
+	 * @param image the image to filter
+	 * @since 3.8
+	 */
+	public void filter( BufferedImage image ) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int type = image.getType();
+		boolean intRaster = (type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB);
+
+		// get pixels
+		//   (getDataElements() and setDataElements() do not make the image unmanaged,
+		//    which would be the case when accessing the data buffer array directly)
+		WritableRaster raster = image.getRaster();
+		int[] pixels = intRaster
+			? (int[]) raster.getDataElements( 0, 0, width, height, null )
+			: image.getRGB( 0, 0, width, height, null, 0, width );
+
+		// filter pixels
+		if( pixels.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1 )
+			ForkJoinPool.commonPool().invoke( new FilterTask( this, pixels, 0, pixels.length ) );
+		else
+			filterRGB( pixels, 0, pixels.length );
+
+		// TYPE_INT_RGB does not have alpha channel
+		if( type == BufferedImage.TYPE_INT_RGB ) {
+			for( int i = 0; i < pixels.length; i++ )
+				pixels[i] &= 0xffffff;
+		}
+
+		// set pixels
+		if( intRaster )
+			raster.setDataElements( 0, 0, width, height, pixels );
+		else
+			image.setRGB( 0, 0, width, height, pixels, 0, width );
+	}
+
+	/**
+	 * Overridden to filter pixel rows in a single loop
+	 * (instead of invoking {@link #filterRGB(int, int, int)} for each pixel).
+	 */
+	@Override
+	public void filterRGBPixels( int x, int y, int w, int h, int[] pixels, int off, int scansize ) {
+		if( filterRGBOverridden ) {
+			super.filterRGBPixels( x, y, w, h, pixels, off, scansize );
+			return;
+		}
+
+		for( int row = 0; row < h; row++ )
+			filterRGB( pixels, off + (row * scansize), w );
+		consumer.setPixels( x, y, w, h, ColorModel.getRGBdefault(), pixels, off, scansize );
+	}
+
+	private int filterPixel( int rgb ) {
 		// use NTSC conversion formula
 		int gray = (int)(
 			0.30 * (rgb >> 16 & 0xff) +
@@ -84,4 +185,48 @@ public class GrayFilter
 
 		return a | (gray << 16) | (gray << 8) | gray;
 	}
+
+	private static boolean isFilterRGBOverridden( Class<?> cls ) {
+		if( cls == GrayFilter.class )
+			return false;
+
+		try {
+			return cls.getMethod( "filterRGB", int.class, int.class, int.class ).getDeclaringClass() != GrayFilter.class;
+		} catch( NoSuchMethodException | SecurityException ex ) {
+			return true;
+		}
+	}
+
+	//---- class FilterTask ---------------------------------------------------
+
+	private static class FilterTask
+		extends RecursiveAction
+	{
+		private static final int SPLIT_THRESHOLD = 64 * 1024;
+
+		private final GrayFilter filter;
+		private final int[] pixels;
+		private final int offset;
+		private final int length;
+
+		FilterTask( GrayFilter filter, int[] pixels, int offset, int length ) {
+			this.filter = filter;
+			this.pixels = pixels;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		protected void compute() {
+			if( length <= SPLIT_THRESHOLD ) {
+				filter.filterRGB( pixels, offset, length );
+				return;
+			}
+
+			int half = length / 2;
+			invokeAll(
+				new FilterTask( filter, pixels, offset, half ),
+				new FilterTask( filter, pixels, offset + half, length - half ) );
+		}
+	}
 }
@@ -258,14 +258,48 @@ public class HSLColor
 	 *  @return an array containing the 3 HSL values.
 	 */
 	public static float[] fromRGB(Color color)
+	{
+		float[] hsl = new float[3];
+		fromRGB(color, hsl);
+		return hsl;
+	}
+
+	/**
+	 *  Convert a RGB Color to it corresponding HSL values and stores them
+	 *  in the given array (which must have a length of at least 3).
+	 *  Does not allocate any objects.
+	 *
+	 *  @param color the RGB Color
+	 *  @param hsl   the array that receives the HSL values
+	 *  @since 3.8
+	 */
+	public static void fromRGB(Color color, float[] hsl)
+	{
+		//  Get RGB values in the range 0 - 1
+
+		color.getRGBColorComponents( hsl );
+		fromRGB(hsl[0], hsl[1], hsl[2], hsl);
+	}
+
+	/**
+	 *  Convert a packed (A)RGB value to it corresponding HSL values and stores them
+	 *  in the given array (which must have a length of at least 3).
+	 *  The alpha is ignored.
+	 *  Does not allocate any objects.
+	 *
+	 *  @param rgb the packed (A)RGB value (e.g. from {@link Color#getRGB()})
+	 *  @param hsl the array that receives the HSL values
+	 *  @since 3.8
+	 */
+	public static void fromRGB(int rgb, float[] hsl)
 	{
 		//  Get RGB values in the range 0 - 1
 
-		float[] rgb = color.getRGBColorComponents( null );
-		float r = rgb[0];
-		float g = rgb[1];
-		float b = rgb[2];
+		fromRGB(((rgb >> 16) & 0xff) / 255f, ((rgb >> 8) & 0xff) / 255f, (rgb & 0xff) / 255f, hsl);
+	}
 
+	private static void fromRGB(float r, float g, float b, float[] hsl)
+	{
 		//	Minimum and Maximum RGB values are used in the HSL calculations
 
 		float min = Math.min(r, Math.min(g, b));
@@ -301,7 +335,9 @@ public class HSLColor
 			s = (max - min) / (2 - max - min);
 
 //		System.out.println(new HSLColor( new float[] {h, s * 100, l * 100} ));
-		return new float[] {h, s * 100, l * 100};
+		hsl[0] = h;
+		hsl[1] = s * 100;
+		hsl[2] = l * 100;
 	}
 
 	/**
@@ -360,6 +396,42 @@ public class HSLColor
 	 *  @return the RGB Color object
 	 */
 	public static Color toRGB(float h, float s, float l, float alpha)
+	{
+		checkRange(s, l, alpha);
+
+		return new Color(
+			toRGBComponent(h, s, l, 1.0f / 3.0f),
+			toRGBComponent(h, s, l, 0),
+			toRGBComponent(h, s, l, -(1.0f / 3.0f)),
+			alpha);
+	}
+
+	/**
+	 *  Convert HSL values to a packed ARGB value
+	 *  (same as {@code toRGB(h, s, l, alpha).getRGB()}).
+	 *  Does not allocate any objects.
+	 *
+	 *  @param h Hue is specified as degrees in the range 0 - 360.
+	 *  @param s Saturation is specified as a percentage in the range 1 - 100.
+	 *  @param l Lumanance is specified as a percentage in the range 1 - 100.
+	 *  @param alpha  the alpha value between 0 - 1
+	 *
+	 *  @return the packed ARGB value
+	 *  @since 3.8
+	 */
+	public static int toARGB(float h, float s, float l, float alpha)
+	{
+		checkRange(s, l, alpha);
+
+		// same rounding as in Color(float, float, float, float)
+		int r = (int) (toRGBComponent(h, s, l, 1.0f / 3.0f) * 255 + 0.5);
+		int g = (int) (toRGBComponent(h, s, l, 0) * 255 + 0.5);
+		int b = (int) (toRGBComponent(h, s, l, -(1.0f / 3.0f)) * 255 + 0.5);
+		int a = (int) (alpha * 255 + 0.5);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	private static void checkRange(float s, float l, float alpha)
 	{
 		if (s <0.0f || s > 100.0f)
 		{
@@ -378,7 +450,10 @@ public class HSLColor
 			String message = "Color parameter outside of expected range - Alpha";
 			throw new IllegalArgumentException( message );
 		}
+	}
 
+	private static float toRGBComponent(float h, float s, float l, float hueOffset)
+	{
 		//  Formula needs all values between 0 - 1.
 
 		h = h % 360.0f;
@@ -395,15 +470,8 @@ public class HSLColor
 
 		float p = 2 * l - q;
 
-		float r = Math.max(0, HueToRGB(p, q, h + (1.0f / 3.0f)));
-		float g = Math.max(0, HueToRGB(p, q, h));
-		float b = Math.max(0, HueToRGB(p, q, h - (1.0f / 3.0f)));
-
-		r = Math.min(r, 1.0f);
-		g = Math.min(g, 1.0f);
-		b = Math.min(b, 1.0f);
-
-		return new Color(r, g, b, alpha);
+		float c = Math.max(0, HueToRGB(p, q, h + hueOffset));
+		return Math.min(c, 1.0f);
 	}
 
 	private static float HueToRGB(float p, float q, float h)
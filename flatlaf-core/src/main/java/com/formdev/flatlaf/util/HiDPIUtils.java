@@ -24,7 +24,6 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.font.GlyphVector;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Rectangle2D;
 import java.text.AttributedCharacterIterator;
 import javax.swing.JComponent;
 import javax.swing.RepaintManager;
@@ -41,6 +40,19 @@ public class HiDPIUtils
 		void paint( Graphics2D g, int x, int y, int width, int height, double scaleFactor );
 	}
 
+	/**
+	 * Same as {@link Painter}, but with an additional parameter, which is passed through
+	 * from {@link #paintAtScale1x(Graphics2D, int, int, int, int, Object, ParamPainter)}.
+	 * <p>
+	 * Allows using non-capturing lambdas (that use only their parameters),
+	 * which do not allocate a new object on each paint.
+	 *
+	 * @since 3.8
+	 */
+	public interface ParamPainter<P> {
+		void paint( Graphics2D g, int x, int y, int width, int height, double scaleFactor, P param );
+	}
+
 	public static void paintAtScale1x( Graphics2D g, JComponent c, Painter painter ) {
 		paintAtScale1x( g, 0, 0, c.getWidth(), c.getHeight(), painter );
 	}
@@ -54,6 +66,35 @@ public class HiDPIUtils
 	 * Uses the same scaling calculation as the JRE uses.
 	 */
 	public static void paintAtScale1x( Graphics2D g, int x, int y, int width, int height, Painter painter ) {
+		paintAtScale1x( g, x, y, width, height, painter, HiDPIUtils::paintWithPainter );
+	}
+
+	private static void paintWithPainter( Graphics2D g, int x, int y, int width, int height,
+		double scaleFactor, Painter painter )
+	{
+		painter.paint( g, x, y, width, height, scaleFactor );
+	}
+
+	/**
+	 * Same as {@link #paintAtScale1x(Graphics2D, int, int, int, int, Painter)},
+	 * but passes the given parameter to the painter.
+	 * <p>
+	 * Does not allocate temporary objects (except a copy of the current transform),
+	 * if the painter is a non-capturing lambda or method reference. E.g.:
+	 * <pre>{@code
+	 * HiDPIUtils.paintAtScale1x( g, x, y, width, height, this,
+	 *     (g2, x2, y2, width2, height2, scaleFactor, border) -> {
+	 *         border.paintImpl( g2, x2, y2, width2, height2, scaleFactor );
+	 *     } );
+	 * }</pre>
+	 * instead of {@code paintAtScale1x( g, x, y, width, height, this::paintImpl )},
+	 * which allocates a new painter on each invocation.
+	 *
+	 * @since 3.8
+	 */
+	public static <P> void paintAtScale1x( Graphics2D g, int x, int y, int width, int height,
+		P param, ParamPainter<P> painter )
+	{
 		// save original transform
 		AffineTransform t = g.getTransform();
 
@@ -81,7 +122,7 @@ public class HiDPIUtils
 
 		// check whether scaled
 		if( realScaleX == 1 && realScaleY == 1 ) {
-			painter.paint( g, x, y, width, height, 1 );
+			painter.paint( g, x, y, width, height, 1, param );
 			return;
 		}
 
@@ -89,44 +130,39 @@ public class HiDPIUtils
 		double px = (x * scaleX) + (y * shearX) + t.getTranslateX();
 		double py = (y * scaleY) + (x * shearY) + t.getTranslateY();
 
-		// scale rectangle
-		Rectangle2D.Double scaledRect = scale( realScaleX, realScaleY, px, py, width, height );
+		// scale rectangle in the same way as the JRE does in
+		// sun.java2d.pipe.PixelToParallelogramConverter.fillRectangle(),
+		// which is used by Graphics.fillRect()
+		double scaledX = normalize( px );
+		double scaledY = normalize( py );
+		double scaledWidth  = normalize( px + (width  * realScaleX) ) - scaledX;
+		double scaledHeight = normalize( py + (height * realScaleY) ) - scaledY;
 
 		try {
 			// unscale to factor 1.0, keep rotation and move origin (to whole numbers)
-			AffineTransform t1x;
+			// (Graphics2D.setTransform() copies the transform, so it is safe to reuse it)
+			AffineTransform t1x = scale1xTransform.get();
 			if( rotated ) {
-				t1x = new AffineTransform( scaleX, shearY, shearX, scaleY,
-					Math.floor( scaledRect.x ), Math.floor( scaledRect.y ) );
+				t1x.setTransform( scaleX, shearY, shearX, scaleY,
+					Math.floor( scaledX ), Math.floor( scaledY ) );
 				t1x.scale( 1. / realScaleX, 1. / realScaleY );
 			} else
-				t1x = new AffineTransform( 1, 0, 0, 1, Math.floor( scaledRect.x ), Math.floor( scaledRect.y ) );
+				t1x.setTransform( 1, 0, 0, 1, Math.floor( scaledX ), Math.floor( scaledY ) );
 			g.setTransform( t1x );
 
-			int swidth = (int) scaledRect.width;
-			int sheight = (int) scaledRect.height;
+			int swidth = (int) scaledWidth;
+			int sheight = (int) scaledHeight;
 
 			// paint
-			painter.paint( g, 0, 0, swidth, sheight, realScaleX );
+			painter.paint( g, 0, 0, swidth, sheight, realScaleX, param );
 		} finally {
 			// restore original transform
 			g.setTransform( t );
 		}
 	}
 
-	/**
-	 * Scales a rectangle in the same way as the JRE does in
-	 * sun.java2d.pipe.PixelToParallelogramConverter.fillRectangle(),
-	 * which is used by Graphics.fillRect().
-	 */
-	private static Rectangle2D.Double scale( double scaleX, double scaleY, double px, double py, int width, int height ) {
-		double newX = normalize( px );
-		double newY = normalize( py );
-		double newWidth  = normalize( px + (width  * scaleX) ) - newX;
-		double newHeight = normalize( py + (height * scaleY) ) - newY;
-
-		return new Rectangle2D.Double( newX, newY, newWidth, newHeight );
-	}
+	// reusable transform per thread (painting may also occur on other threads than the AWT thread)
+	private static final ThreadLocal<AffineTransform> scale1xTransform = ThreadLocal.withInitial( AffineTransform::new );
 
 	private static double normalize( double value ) {
 		return Math.floor( value + 0.25 ) + 0.25;
@@ -152,21 +188,22 @@ public class HiDPIUtils
 		if( !useTextYCorrection() || !SystemInfo.isWindows )
 			return 0;
 
+		int fontType = getFontType( g.getFont() );
+		if( fontType == FONT_OTHER )
+			return 0;
+
 		if( !SystemInfo.isJava_9_orLater ) {
 			// Java 8
 			float scaleFactor = getUserScaleFactor();
 			if( scaleFactor > 1 ) {
-				switch( g.getFont().getFamily() ) {
-					case "Segoe UI":
-					case "Segoe UI Light":
-					case "Segoe UI Semibold":
+				switch( fontType ) {
+					case FONT_SEGOE_UI:
 						return -((scaleFactor == 2.25f || scaleFactor == 4f ? 0.875f : 0.625f) * scaleFactor);
 
-					case "Noto Sans":
-					case "Open Sans":
+					case FONT_OPEN_SANS:
 						return -(0.3f * scaleFactor);
 
-					case "Verdana":
+					case FONT_VERDANA:
 						return -((scaleFactor < 2 ? 0.4f : 0.3f) * scaleFactor);
 				}
 			}
@@ -184,29 +221,19 @@ public class HiDPIUtils
 			// this is not the optimal solution, but works very good in most cases
 			// (tested with class FlatPaintingStringTest on Windows 11)
 
-			switch( g.getFont().getFamily() ) {
-				case "Segoe UI":
-				case "Segoe UI Light":
-				case "Segoe UI Semibold":
-				case "Verdana":
-				case Font.DIALOG:
-				case Font.SANS_SERIF:
+			switch( fontType ) {
+				case FONT_SEGOE_UI:
+				case FONT_VERDANA:
+				case FONT_DIALOG:
 					return correctionForScaleY( g, CORRECTION_SEGOE_UI );
 
-				case "Tahoma":
+				case FONT_TAHOMA:
 					return correctionForScaleY( g, CORRECTION_TAHOMA );
 
-				case "Inter":
-				case "Inter Light":
-				case "Inter Semi Bold":	// Inter v3
-				case "Inter SemiBold":	// Inter v4
-				case "Roboto":
-				case "Roboto Light":
-				case "Roboto Medium":
+				case FONT_INTER:
 					return correctionForScaleY( g, CORRECTION_INTER );
 
-				case "Noto Sans":
-				case "Open Sans":
+				case FONT_OPEN_SANS:
 					return correctionForScaleY( g, CORRECTION_OPEN_SANS );
 			}
 		}
@@ -214,6 +241,76 @@ public class HiDPIUtils
 		return 0;
 	}
 
+	private static final int
+		FONT_OTHER = 0,
+		FONT_SEGOE_UI = 1,
+		FONT_VERDANA = 2,
+		FONT_DIALOG = 3,
+		FONT_TAHOMA = 4,
+		FONT_INTER = 5,
+		FONT_OPEN_SANS = 6;
+
+	// recently used fonts and their font types
+	// (Font.getFamily() is relatively expensive and text is drawn very often)
+	private static final int FONT_TYPE_CACHE_SIZE = 8;
+	private static final FontTypeEntry[] fontTypeCache = new FontTypeEntry[FONT_TYPE_CACHE_SIZE];
+	private static int nextFontTypeCacheIndex;
+
+	private static int getFontType( Font font ) {
+		if( font == null )
+			return FONT_OTHER;
+
+		for( FontTypeEntry entry : fontTypeCache ) {
+			if( entry != null && entry.font == font )
+				return entry.fontType;
+		}
+
+		int fontType = getFontType( font.getFamily() );
+
+		// entries are immutable, so it is safe to access the cache from multiple threads
+		// without synchronization (in worst case the font type is computed twice)
+		int index = nextFontTypeCacheIndex;
+		fontTypeCache[index] = new FontTypeEntry( font, fontType );
+		nextFontTypeCacheIndex = (index + 1) % FONT_TYPE_CACHE_SIZE;
+
+		return fontType;
+	}
+
+	private static int getFontType( String family ) {
+		switch( family ) {
+			case "Segoe UI":
+			case "Segoe UI Light":
+			case "Segoe UI Semibold":
+				return FONT_SEGOE_UI;
+
+			case "Verdana":
+				return FONT_VERDANA;
+
+			case Font.DIALOG:
+			case Font.SANS_SERIF:
+				return FONT_DIALOG;
+
+			case "Tahoma":
+				return FONT_TAHOMA;
+
+			case "Inter":
+			case "Inter Light":
+			case "Inter Semi Bold":	// Inter v3
+			case "Inter SemiBold":	// Inter v4
+			case "Roboto":
+			case "Roboto Light":
+			case "Roboto Medium":
+				return FONT_INTER;
+
+			case "Noto Sans":
+			case "Open Sans":
+				return FONT_OPEN_SANS;
+
+			default:
+				return FONT_OTHER;
+		}
+	}
+
 	private static final float[]
 		SCALE_FACTORS        = {  1.25f,   1.5f,    1.75f,   2f,      2.25f,   2.5f,    3f,      3.5f,    4f     },
 
@@ -285,61 +382,155 @@ public class HiDPIUtils
 	/**
 	 * Creates a graphics object and applies Y correction to string drawing methods.
 	 * If no Y correction is necessary, the passed in graphics object is returned.
+	 *
+	 * @see #beginGraphicsTextYCorrection(Graphics2D)
 	 */
 	public static Graphics2D createGraphicsTextYCorrection( Graphics2D g ) {
 		float yCorrection = computeTextYCorrection( g );
 		if( yCorrection == 0 )
 			return g;
 
-		return new Graphics2DProxy( g ) {
-			@Override
-			public void drawString( String str, int x, int y ) {
-				super.drawString( str, x, y + yCorrection );
-			}
+		return new TextYCorrectionGraphics( g, yCorrection );
+	}
 
-			@Override
-			public void drawString( String str, float x, float y ) {
-				super.drawString( str, x, y + yCorrection );
-			}
+	/**
+	 * Same as {@link #createGraphicsTextYCorrection(Graphics2D)}, but reuses graphics objects.
+	 * Invoke {@link #endGraphicsTextYCorrection(Graphics2D)} with the returned graphics object
+	 * when done (usually in a {@code finally} block).
+	 * The returned graphics object must not be used after that.
+	 * <p>
+	 * Use this method for frequently painted components to avoid allocating
+	 * a new graphics object on each paint.
+	 *
+	 * @since 3.8
+	 */
+	public static Graphics2D beginGraphicsTextYCorrection( Graphics2D g ) {
+		if( g instanceof TextYCorrectionGraphics ) {
+			// already corrected (nested usage)
+			((TextYCorrectionGraphics)g).nestingLevel++;
+			return g;
+		}
 
-			@Override
-			public void drawString( AttributedCharacterIterator iterator, int x, int y ) {
-				super.drawString( iterator, x, y + yCorrection );
-			}
+		float yCorrection = computeTextYCorrection( g );
+		if( yCorrection == 0 )
+			return g;
 
-			@Override
-			public void drawString( AttributedCharacterIterator iterator, float x, float y ) {
-				super.drawString( iterator, x, y + yCorrection );
+		TextYCorrectionGraphics[] pool = textYCorrectionGraphicsPool.get();
+		for( int i = pool.length - 1; i >= 0; i-- ) {
+			TextYCorrectionGraphics g2 = pool[i];
+			if( g2 != null ) {
+				pool[i] = null;
+				g2.init( g, yCorrection );
+				return g2;
 			}
+		}
+		TextYCorrectionGraphics g2 = new TextYCorrectionGraphics( g, yCorrection );
+		g2.reusable = true;
+		return g2;
+	}
 
-			@Override
-			public void drawChars( char[] data, int offset, int length, int x, int y ) {
-				super.drawChars( data, offset, length, x, Math.round( y + yCorrection ) );
-			}
+	/**
+	 * Releases a graphics object returned by {@link #beginGraphicsTextYCorrection(Graphics2D)}.
+	 *
+	 * @since 3.8
+	 */
+	public static void endGraphicsTextYCorrection( Graphics2D g ) {
+		if( !(g instanceof TextYCorrectionGraphics) )
+			return;
 
-			@Override
-			public void drawBytes( byte[] data, int offset, int length, int x, int y ) {
-				super.drawBytes( data, offset, length, x, Math.round( y + yCorrection ) );
-			}
+		TextYCorrectionGraphics g2 = (TextYCorrectionGraphics) g;
+		if( g2.nestingLevel > 0 ) {
+			g2.nestingLevel--;
+			return;
+		}
+		if( !g2.reusable )
+			return;
 
-			@Override
-			public void drawGlyphVector( GlyphVector g, float x, float y ) {
-				super.drawGlyphVector( g, x, y + yCorrection );
+		// return to pool (of current thread)
+		g2.init( null, 0 );
+		TextYCorrectionGraphics[] pool = textYCorrectionGraphicsPool.get();
+		for( int i = 0; i < pool.length; i++ ) {
+			if( pool[i] == null ) {
+				pool[i] = g2;
+				return;
 			}
+		}
+	}
 
-			@Override
-			public void fillRect( int x, int y, int width, int height ) {
-				// fix hard coded black color in HRuleView.paint() of '<hr noshade>'
-				if( super.getColor() == Color.black &&
-					StackUtils.wasInvokedFrom( "javax.swing.text.html.HRuleView", "paint", 4 ) )
-				{
-					super.setColor( FlatLaf.isLafDark() ? Color.lightGray : Color.darkGray );
-					super.fillRect( x, y, width, height );
-					super.setColor( Color.black );
-				} else
-					super.fillRect( x, y, width, height );
-			}
-		};
+	// reusable graphics objects per thread
+	// (size limits number of nested usages without allocation; e.g. HTML text in text pane in label)
+	private static final ThreadLocal<TextYCorrectionGraphics[]> textYCorrectionGraphicsPool =
+		ThreadLocal.withInitial( () -> new TextYCorrectionGraphics[4] );
+
+	//---- class TextYCorrectionGraphics --------------------------------------
+
+	/**
+	 * Applies Y correction to string drawing methods.
+	 */
+	private static class TextYCorrectionGraphics
+		extends Graphics2DProxy
+	{
+		private float yCorrection;
+		private boolean reusable;
+		private int nestingLevel;
+
+		TextYCorrectionGraphics( Graphics2D delegate, float yCorrection ) {
+			super( delegate );
+			this.yCorrection = yCorrection;
+		}
+
+		void init( Graphics2D delegate, float yCorrection ) {
+			setDelegate( delegate );
+			this.yCorrection = yCorrection;
+		}
+
+		@Override
+		public void drawString( String str, int x, int y ) {
+			super.drawString( str, x, y + yCorrection );
+		}
+
+		@Override
+		public void drawString( String str, float x, float y ) {
+			super.drawString( str, x, y + yCorrection );
+		}
+
+		@Override
+		public void drawString( AttributedCharacterIterator iterator, int x, int y ) {
+			super.drawString( iterator, x, y + yCorrection );
+		}
+
+		@Override
+		public void drawString( AttributedCharacterIterator iterator, float x, float y ) {
+			super.drawString( iterator, x, y + yCorrection );
+		}
+
+		@Override
+		public void drawChars( char[] data, int offset, int length, int x, int y ) {
+			super.drawChars( data, offset, length, x, Math.round( y + yCorrection ) );
+		}
+
+		@Override
+		public void drawBytes( byte[] data, int offset, int length, int x, int y ) {
+			super.drawBytes( data, offset, length, x, Math.round( y + yCorrection ) );
+		}
+
+		@Override
+		public void drawGlyphVector( GlyphVector g, float x, float y ) {
+			super.drawGlyphVector( g, x, y + yCorrection );
+		}
+
+		@Override
+		public void fillRect( int x, int y, int width, int height ) {
+			// fix hard coded black color in HRuleView.paint() of '<hr noshade>'
+			if( super.getColor() == Color.black &&
+				StackUtils.wasInvokedFrom( "javax.swing.text.html.HRuleView", "paint", 4 ) )
+			{
+				super.setColor( FlatLaf.isLafDark() ? Color.lightGray : Color.darkGray );
+				super.fillRect( x, y, width, height );
+				super.setColor( Color.black );
+			} else
+				super.fillRect( x, y, width, height );
+		}
 	}
 
 	/**
@@ -549,6 +740,19 @@ public class HiDPIUtils
 		callback.addDirtyRegion( c, x, y, width, height );
 	}
 
+	//---- class FontTypeEntry ------------------------------------------------
+
+	private static class FontTypeEntry
+	{
+		final Font font;
+		final int fontType;
+
+		FontTypeEntry( Font font, int fontType ) {
+			this.font = font;
+			this.fontType = fontType;
+		}
+	}
+
 	//---- interface DirtyRegionCallback --------------------------------------
 
 	/**
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread-safe cache (map) with bounded size that evicts least recently used entries.
+ * <p>
+ * The size of the cache is the sum of the weights of all entries.
+ * By default, each entry has a weight of {@code 1}, so the maximum size
+ * is the maximum number of entries.
+ * A custom weigher can be specified to compute the weight of an entry from its value.
+ * <p>
+ * Optionally, values are held using soft references, which allows
+ * the garbage collector to free values under memory pressure.
+ * <p>
+ * {@code null} values are not stored.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+public class LRUCache<K,V>
+{
+	private final LinkedHashMap<K, Entry<K,V>> map = new LinkedHashMap<>( 16, 0.75f, true );
+	private final ToIntFunction<V> weigher;
+	private final boolean softValues;
+	private final ReferenceQueue<V> queue;
+
+	private int maxSize;
+	private int size;
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Creates a cache that holds at most the given number of entries.
+	 *
+	 * @param maxSize the maximum number of entries
+	 * @param softValues whether values are held using soft references
+	 */
+	public LRUCache( int maxSize, boolean softValues ) {
+		this( maxSize, softValues, null );
+	}
+
+	/**
+	 * Creates a cache where the sum of the weights of all entries is at most the given size.
+	 *
+	 * @param maxSize the maximum sum of weights
+	 * @param softValues whether values are held using soft references
+	 * @param weigher computes the weight (must be greater or equal zero) of a value;
+	 *                or {@code null} to use weight {@code 1} for all entries
+	 */
+	public LRUCache( int maxSize, boolean softValues, ToIntFunction<V> weigher ) {
+		if( maxSize < 0 )
+			throw new IllegalArgumentException( "maxSize < 0" );
+
+		this.maxSize = maxSize;
+		this.softValues = softValues;
+		this.weigher = weigher;
+		this.queue = softValues ? new ReferenceQueue<>() : null;
+	}
+
+	/**
+	 * Returns the value for the given key, or {@code null} if not cached.
+	 */
+	public synchronized V get( K key ) {
+		expungeStaleEntries();
+
+		Entry<K,V> entry = map.get( key );
+		V value = (entry != null) ? entry.get() : null;
+		if( value != null )
+			hitCount++;
+		else
+			missCount++;
+		return value;
+	}
+
+	/**
+	 * Adds the given value to the cache and evicts least recently used entries
+	 * if the cache size exceeds the maximum size.
+	 * If the value is {@code null}, the entry for the given key is removed.
+	 *
+	 * @return the previous value for the given key, or {@code null}
+	 */
+	public synchronized V put( K key, V value ) {
+		expungeStaleEntries();
+
+		if( value == null )
+			return remove( key );
+
+		int weight = (weigher != null) ? weigher.applyAsInt( value ) : 1;
+		Entry<K,V> oldEntry = map.put( key, softValues
+			? new SoftEntry<>( key, value, weight, queue )
+			: new StrongEntry<>( value, weight ) );
+		size += weight;
+		if( oldEntry != null )
+			size -= oldEntry.weight();
+
+		trimToSize( maxSize );
+
+		return (oldEntry != null) ? oldEntry.get() : null;
+	}
+
+	/**
+	 * Removes the entry for the given key.
+	 *
+	 * @return the removed value, or {@code null}
+	 */
+	public synchronized V remove( K key ) {
+		expungeStaleEntries();
+
+		Entry<K,V> entry = map.remove( key );
+		if( entry == null )
+			return null;
+
+		size -= entry.weight();
+		return entry.get();
+	}
+
+	/**
+	 * Removes all entries. Does not reset statistics.
+	 */
+	public synchronized void clear() {
+		map.clear();
+		size = 0;
+
+		// drain queue
+		if( queue != null ) {
+			while( queue.poll() != null )
+				;
+		}
+	}
+
+	/**
+	 * Returns the number of entries.
+	 */
+	public synchronized int entryCount() {
+		expungeStaleEntries();
+		return map.size();
+	}
+
+	/**
+	 * Returns the current size (sum of weights of all entries).
+	 */
+	public synchronized int size() {
+		expungeStaleEntries();
+		return size;
+	}
+
+	/**
+	 * Returns the maximum size.
+	 */
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum size and evicts least recently used entries if necessary.
+	 */
+	public synchronized void setMaxSize( int maxSize ) {
+		if( maxSize < 0 )
+			throw new IllegalArgumentException( "maxSize < 0" );
+
+		this.maxSize = maxSize;
+		trimToSize( maxSize );
+	}
+
+	/**
+	 * Returns whether values are held using soft references.
+	 */
+	public boolean isSoftValues() {
+		return softValues;
+	}
+
+	/**
+	 * Returns a snapshot of the cache statistics.
+	 */
+	public synchronized Statistics getStatistics() {
+		expungeStaleEntries();
+		return new Statistics( hitCount, missCount, evictionCount, map.size(), size, maxSize );
+	}
+
+	/**
+	 * Resets hit, miss and eviction counters to zero.
+	 */
+	public synchronized void resetStatistics() {
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	private void trimToSize( int maxSize ) {
+		Iterator<Entry<K,V>> it = map.values().iterator();
+		while( size > maxSize && it.hasNext() ) {
+			Entry<K,V> entry = it.next();
+			it.remove();
+			size -= entry.weight();
+			evictionCount++;
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private void expungeStaleEntries() {
+		if( queue == null )
+			return;
+
+		Reference<? extends V> reference;
+		while( (reference = queue.poll()) != null ) {
+			SoftEntry<K,V> entry = (SoftEntry<K,V>) reference;
+
+			// remove only if the entry was not replaced in the meantime
+			if( map.get( entry.key ) == entry ) {
+				map.remove( entry.key );
+				size -= entry.weight;
+				evictionCount++;
+			}
+		}
+	}
+
+	//---- interface Entry ----------------------------------------------------
+
+	private interface Entry<K,V>
+	{
+		V get();
+		int weight();
+	}
+
+	//---- class StrongEntry --------------------------------------------------
+
+	private static class StrongEntry<K,V>
+		implements Entry<K,V>
+	{
+		private final V value;
+		private final int weight;
+
+		StrongEntry( V value, int weight ) {
+			this.value = value;
+			this.weight = weight;
+		}
+
+		@Override public V get() { return value; }
+		@Override public int weight() { return weight; }
+	}
+
+	//---- class SoftEntry ----------------------------------------------------
+
+	private static class SoftEntry<K,V>
+		extends SoftReference<V>
+		implements Entry<K,V>
+	{
+		// needed to remove reference from map in expungeStaleEntries()
+		final K key;
+		final int weight;
+
+		SoftEntry( K key, V value, int weight, ReferenceQueue<? super V> queue ) {
+			super( value, queue );
+			this.key = key;
+			this.weight = weight;
+		}
+
+		@Override public int weight() { return weight; }
+	}
+
+	//---- class Statistics ---------------------------------------------------
+
+	/**
+	 * An immutable snapshot of cache statistics.
+	 */
+	public static class Statistics
+	{
+		private final long hitCount;
+		private final long missCount;
+		private final long evictionCount;
+		private final int entryCount;
+		private final int size;
+		private final int maxSize;
+
+		Statistics( long hitCount, long missCount, long evictionCount, int entryCount, int size, int maxSize ) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.entryCount = entryCount;
+			this.size = size;
+			this.maxSize = maxSize;
+		}
+
+		/** Returns the number of cache lookups that returned a value. */
+		public long getHitCount() { return hitCount; }
+		/** Returns the number of cache lookups that returned {@code null}. */
+		public long getMissCount() { return missCount; }
+		/** Returns the number of entries evicted because of size limit or garbage collection. */
+		public long getEvictionCount() { return evictionCount; }
+		/** Returns the number of entries. */
+		public int getEntryCount() { return entryCount; }
+		/** Returns the size (sum of weights of all entries). */
+		public int getSize() { return size; }
+		/** Returns the maximum size. */
+		public int getMaxSize() { return maxSize; }
+
+		/**
+		 * Returns the ratio of hits to lookups, or {@code 1} if there were no lookups.
+		 */
+		public double getHitRate() {
+			long lookupCount = hitCount + missCount;
+			return (lookupCount > 0) ? (double) hitCount / lookupCount : 1;
+		}
+
+		@Override
+		public String toString() {
+			return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+				+ ", entries=" + entryCount + ", size=" + size + "/" + maxSize;
+		}
+	}
+}
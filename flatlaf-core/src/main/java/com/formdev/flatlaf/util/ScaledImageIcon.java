@@ -152,8 +152,8 @@ debug*/
 	private void paintLastImage( Graphics g, int x, int y ) {
 		if( lastSystemScaleFactor > 1 ) {
 			HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, 100, 100, // width and height are not used
-				(g2, x2, y2, width2, height2, scaleFactor2) -> {
-					g2.drawImage( lastImage, x2, y2, null );
+				lastImage, (g2, x2, y2, width2, height2, scaleFactor2, image) -> {
+					g2.drawImage( image, x2, y2, null );
 				} );
 		} else
 			g.drawImage( lastImage, x, y, null );
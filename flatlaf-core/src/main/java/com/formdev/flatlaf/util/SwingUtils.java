@@ -18,6 +18,9 @@ package com.formdev.flatlaf.util;
 
 import java.awt.Component;
 import java.awt.Container;
+import java.awt.Frame;
+import java.awt.Window;
+import javax.swing.SwingUtilities;
 
 /**
  * Utility methods for Swing.
@@ -47,4 +50,27 @@ public class SwingUtils
 
 		return null;
 	}
+
+	/**
+	 * Returns whether the given component is showing on screen.
+	 * This is the case if the component is showing (see {@link Component#isShowing()})
+	 * and its window (or an owner of its window) is not iconified.
+	 * <p>
+	 * Note that it is not possible to detect whether a window is fully covered
+	 * by other windows or is on another virtual desktop.
+	 *
+	 * @since 3.8
+	 */
+	public static boolean isShowingOnScreen( Component c ) {
+		if( !c.isShowing() )
+			return false;
+
+		// owned windows are usually hidden when owner is iconified
+		Window window = (c instanceof Window) ? (Window) c : SwingUtilities.getWindowAncestor( c );
+		for( ; window != null; window = window.getOwner() ) {
+			if( window instanceof Frame && (((Frame)window).getExtendedState() & Frame.ICONIFIED) != 0 )
+				return false;
+		}
+		return true;
+	}
 }
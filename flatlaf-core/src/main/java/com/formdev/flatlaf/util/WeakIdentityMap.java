@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A simple (not thread-safe) map that uses weak references for the keys
+ * and compares keys using identity (instead of {@code equals()}).
+ * <p>
+ * Entries are removed when their key is garbage collected.
+ * Note that values must not (strongly) reference their keys,
+ * otherwise keys are never garbage collected.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class WeakIdentityMap<K,V>
+{
+	private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+	private Entry<K,V>[] table = newTable( 16 );
+	private int size;
+
+	int size() {
+		expungeStaleEntries();
+		return size;
+	}
+
+	V get( K key ) {
+		expungeStaleEntries();
+
+		int hash = System.identityHashCode( key );
+		for( Entry<K,V> e = table[indexFor( hash, table.length )]; e != null; e = e.next ) {
+			if( e.get() == key )
+				return e.value;
+		}
+		return null;
+	}
+
+	V put( K key, V value ) {
+		expungeStaleEntries();
+
+		int hash = System.identityHashCode( key );
+		int index = indexFor( hash, table.length );
+		for( Entry<K,V> e = table[index]; e != null; e = e.next ) {
+			if( e.get() == key ) {
+				V oldValue = e.value;
+				e.value = value;
+				return oldValue;
+			}
+		}
+
+		table[index] = new Entry<>( key, value, hash, table[index], queue );
+		if( ++size > table.length * 3 / 4 )
+			resize( table.length * 2 );
+		return null;
+	}
+
+	V remove( K key ) {
+		expungeStaleEntries();
+
+		int hash = System.identityHashCode( key );
+		int index = indexFor( hash, table.length );
+		Entry<K,V> prev = null;
+		for( Entry<K,V> e = table[index]; e != null; prev = e, e = e.next ) {
+			if( e.get() == key ) {
+				V oldValue = e.value;
+				unlink( index, prev, e );
+				return oldValue;
+			}
+		}
+		return null;
+	}
+
+	private void resize( int newLength ) {
+		Entry<K,V>[] newTable = newTable( newLength );
+		for( Entry<K,V> e : table ) {
+			while( e != null ) {
+				Entry<K,V> next = e.next;
+				int index = indexFor( e.hash, newLength );
+				e.next = newTable[index];
+				newTable[index] = e;
+				e = next;
+			}
+		}
+		table = newTable;
+	}
+
+	private void expungeStaleEntries() {
+		Reference<? extends K> ref;
+		while( (ref = queue.poll()) != null ) {
+			@SuppressWarnings( "unchecked" )
+			Entry<K,V> stale = (Entry<K,V>) ref;
+			int index = indexFor( stale.hash, table.length );
+			Entry<K,V> prev = null;
+			for( Entry<K,V> e = table[index]; e != null; prev = e, e = e.next ) {
+				if( e == stale ) {
+					unlink( index, prev, e );
+					break;
+				}
+			}
+		}
+	}
+
+	private void unlink( int index, Entry<K,V> prev, Entry<K,V> e ) {
+		if( prev != null )
+			prev.next = e.next;
+		else
+			table[index] = e.next;
+		e.value = null;
+		size--;
+	}
+
+	private static int indexFor( int hash, int length ) {
+		// length is always a power of two
+		return hash & (length - 1);
+	}
+
+	@SuppressWarnings( { "rawtypes", "unchecked" } )
+	private static <K,V> Entry<K,V>[] newTable( int length ) {
+		return new Entry[length];
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	private static class Entry<K,V>
+		extends WeakReference<K>
+	{
+		final int hash;
+		V value;
+		Entry<K,V> next;
+
+		Entry( K key, V value, int hash, Entry<K,V> next, ReferenceQueue<K> queue ) {
+			super( key, queue );
+			this.value = value;
+			this.hash = hash;
+			this.next = next;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Emits JFR (Java Flight Recorder) events for animations.
+ * <p>
+ * Module {@code jdk.jfr} is optional at runtime.
+ * If it is not available, no events are emitted.
+ *
+ * @author Karl Tauber
+ * @since 3.8
+ */
+class AnimatorEvents
+{
+	private static final boolean available = isJfrAvailable();
+
+	private static boolean isJfrAvailable() {
+		try {
+			Module jfrModule = ModuleLayer.boot().findModule( "jdk.jfr" ).orElse( null );
+			if( jfrModule == null )
+				return false;
+
+			// named module (if on module path) must read jdk.jfr,
+			// which is not the case if jdk.jfr was not resolved
+			Module module = AnimatorEvents.class.getModule();
+			return !module.isNamed() || module.canRead( jfrModule );
+		} catch( LinkageError ex ) {
+			return false;
+		}
+	}
+
+	static Object animationStarted() {
+		if( !available )
+			return null;
+
+		AnimationEvent event = new AnimationEvent();
+		if( !event.isEnabled() )
+			return null;
+
+		event.begin();
+		return event;
+	}
+
+	static void animationStopped( Object event, Animator animator, boolean cancelled, int frameCount ) {
+		AnimationEvent e = (AnimationEvent) event;
+		e.end();
+		if( !e.shouldCommit() )
+			return;
+
+		e.target = animator.getTargetClassName();
+		e.animationDuration = animator.getDuration();
+		e.repeat = animator.isRepeat();
+		e.cancelled = cancelled;
+		e.frameCount = frameCount;
+		e.commit();
+	}
+
+	static Object frameStarted( int animatorCount, long latency ) {
+		if( !available )
+			return null;
+
+		AnimationFrameEvent event = new AnimationFrameEvent();
+		if( !event.isEnabled() )
+			return null;
+
+		event.animatorCount = animatorCount;
+		event.latency = latency;
+		event.begin();
+		return event;
+	}
+
+	static void frameEnded( Object event ) {
+		((AnimationFrameEvent)event).commit();
+	}
+
+	//---- class AnimationEvent -----------------------------------------------
+
+	@Name( "com.formdev.flatlaf.Animation" )
+	@Label( "FlatLaf Animation" )
+	@Category( { "FlatLaf", "Animation" } )
+	@Description( "An animation from start to end" )
+	static class AnimationEvent
+		extends Event
+	{
+		@Label( "Target" )
+		@Description( "Class name of first timing target" )
+		String target;
+
+		@Label( "Animation Duration" )
+		@Timespan( Timespan.MILLISECONDS )
+		long animationDuration;
+
+		@Label( "Repeat" )
+		boolean repeat;
+
+		@Label( "Cancelled" )
+		@Description( "Stopped or cancelled before end" )
+		boolean cancelled;
+
+		@Label( "Frames" )
+		@Description( "Number of delivered timing events" )
+		int frameCount;
+	}
+
+	//---- class AnimationFrameEvent ------------------------------------------
+
+	@Name( "com.formdev.flatlaf.AnimationFrame" )
+	@Label( "FlatLaf Animation Frame" )
+	@Category( { "FlatLaf", "Animation" } )
+	@Description( "A frame of the animation pulse, which invokes all running animators" )
+	static class AnimationFrameEvent
+		extends Event
+	{
+		@Label( "Animators" )
+		int animatorCount;
+
+		@Label( "Latency" )
+		@Description( "How much later than expected the frame was delivered" )
+		@Timespan( Timespan.NANOSECONDS )
+		long latency;
+	}
+}
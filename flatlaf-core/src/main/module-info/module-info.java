@@ -19,6 +19,7 @@
  */
 module com.formdev.flatlaf {
 	requires java.desktop;
+	requires static jdk.jfr; // optional at runtime
 
 	exports com.formdev.flatlaf;
 	exports com.formdev.flatlaf.icons;
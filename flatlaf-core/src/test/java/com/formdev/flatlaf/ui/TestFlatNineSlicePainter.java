@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatNineSlicePainter
+{
+	private static final Color FOCUS = new Color( 0x9697ff );
+	private static final Color BORDER = new Color( 0xc2c2c2 );
+	private static final Color BACKGROUND = new Color( 0xffffff );
+
+	@Test
+	void sameAsShapes() {
+		for( int scale = 1; scale <= 3; scale++ ) {
+			// text field (focused and not focused)
+			assertSameAsShapes( scale, 120, 30, 2, 0, 1, 5, FOCUS, BORDER, BACKGROUND );
+			assertSameAsShapes( scale, 120, 30, 2, 0, 1, 5, null, BORDER, BACKGROUND );
+
+			// button with focus inner width and equal focus/border colors
+			assertSameAsShapes( scale, 75, 27, 3, 1, 1, 6, BORDER, BORDER, BACKGROUND );
+
+			// no arc, fractional widths, translucent colors
+			assertSameAsShapes( scale, 50, 40, 2.5f, 0.5f, 1.5f, 0, new Color( 0x80ff0000, true ),
+				new Color( 0x40000000, true ), null );
+		}
+	}
+
+	@Test
+	void notApplicable() {
+		BufferedImage image = new BufferedImage( 100, 100, BufferedImage.TYPE_INT_RGB );
+		Graphics2D g = image.createGraphics();
+		FlatUIUtils.setRenderingHints( g );
+
+		// too small
+		assertFalse( FlatNineSlicePainter.paintOutlinedComponent( g, 0, 0, 10, 10,
+			2, 1, 0, 1, 5, FOCUS, BORDER, BACKGROUND, 1 ) );
+
+		// focus animation
+		assertFalse( FlatNineSlicePainter.paintOutlinedComponent( g, 0, 0, 80, 30,
+			2, 0.5f, 0, 1, 5, FOCUS, BORDER, BACKGROUND, 1 ) );
+
+		// gradient
+		Paint gradient = new GradientPaint( 0, 0, Color.red, 0, 30, Color.blue );
+		assertFalse( FlatNineSlicePainter.paintOutlinedComponent( g, 0, 0, 80, 30,
+			2, 1, 0, 1, 5, FOCUS, BORDER, gradient, 1 ) );
+
+		// transform not translated to whole pixels
+		g.translate( 0.5, 0 );
+		assertFalse( FlatNineSlicePainter.paintOutlinedComponent( g, 0, 0, 80, 30,
+			2, 1, 0, 1, 5, FOCUS, BORDER, BACKGROUND, 1 ) );
+
+		g.dispose();
+	}
+
+	private static void assertSameAsShapes( int scale, int width, int height,
+		float focusWidth, float focusInnerWidth, float borderWidth, float arc,
+		Color focusColor, Color borderColor, Color background )
+	{
+		int x = 3;
+		int y = 2;
+		BufferedImage expected = createImage( width, height, scale );
+		BufferedImage actual = createImage( width, height, scale );
+
+		Graphics2D g = createGraphics( expected, scale );
+		FlatUIUtils.paintOutlinedComponentImpl( g, x, y, width, height, focusWidth, 1, focusInnerWidth,
+			borderWidth, arc, focusColor, borderColor, background, false, scale );
+		g.dispose();
+
+		g = createGraphics( actual, scale );
+		assertTrue( FlatNineSlicePainter.paintOutlinedComponent( g, x, y, width, height, focusWidth, 1,
+			focusInnerWidth, borderWidth, arc, focusColor, borderColor, background, scale ) );
+		g.dispose();
+
+		// allow small rounding differences in antialiased pixels
+		for( int py = 0; py < expected.getHeight(); py++ ) {
+			for( int px = 0; px < expected.getWidth(); px++ ) {
+				int rgb1 = expected.getRGB( px, py );
+				int rgb2 = actual.getRGB( px, py );
+				for( int shift = 0; shift < 24; shift += 8 ) {
+					int diff = Math.abs( ((rgb1 >> shift) & 0xff) - ((rgb2 >> shift) & 0xff) );
+					assertTrue( diff <= 2, "scale " + scale + ", pixel " + px + "," + py
+						+ ": expected " + Integer.toHexString( rgb1 ) + " but was " + Integer.toHexString( rgb2 ) );
+				}
+			}
+		}
+	}
+
+	private static BufferedImage createImage( int width, int height, int scale ) {
+		BufferedImage image = new BufferedImage( (width + 10) * scale, (height + 10) * scale, BufferedImage.TYPE_INT_RGB );
+		Graphics2D g = image.createGraphics();
+		g.setColor( Color.gray );
+		g.fillRect( 0, 0, image.getWidth(), image.getHeight() );
+		g.dispose();
+		return image;
+	}
+
+	private static Graphics2D createGraphics( BufferedImage image, int scale ) {
+		Graphics2D g = image.createGraphics();
+		g.scale( scale, scale );
+		FlatUIUtils.setRenderingHints( g );
+		return g;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.EventQueue;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatProgressBar
+{
+	@BeforeAll
+	static void setup() {
+		TestUtils.setup( false );
+	}
+
+	@AfterAll
+	static void cleanup() {
+		TestUtils.cleanup();
+	}
+
+	@Test
+	void indeterminateNotShowing() throws Exception {
+		JPanel panel = new JPanel();
+		TestProgressBarUI ui = new TestProgressBarUI();
+
+		EventQueue.invokeAndWait( () -> {
+			JProgressBar progressBar = new JProgressBar();
+			progressBar.setUI( ui );
+			progressBar.setIndeterminate( true );
+			panel.add( progressBar );
+
+			// make displayable (BasicProgressBarUI starts animation timer), but not showing
+			panel.setVisible( false );
+			panel.addNotify();
+		} );
+
+		// wait some animation frames
+		Thread.sleep( 300 );
+
+		// animation timer is not running
+		EventQueue.invokeAndWait( () -> {
+			assertEquals( 0, ui.getAnimationIndex() );
+
+			// component without parent is showing if visible and displayable
+			panel.setVisible( true );
+		} );
+
+		Thread.sleep( 300 );
+
+		// animation timer is running
+		EventQueue.invokeAndWait( () -> {
+			assertTrue( ui.getAnimationIndex() > 0 );
+
+			panel.removeNotify();
+		} );
+	}
+
+	//---- class TestProgressBarUI --------------------------------------------
+
+	private static class TestProgressBarUI
+		extends FlatProgressBarUI
+	{
+		@Override
+		protected int getAnimationIndex() {
+			return super.getAnimationIndex();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.EventQueue;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import javax.swing.JScrollBar;
+import javax.swing.RepaintManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatScrollBar
+{
+	@BeforeAll
+	static void setup() {
+		TestUtils.setup( false );
+	}
+
+	@AfterAll
+	static void cleanup() {
+		TestUtils.cleanup();
+	}
+
+	@Test
+	void hoverRepaintCoalesced() throws Exception {
+		// e.g. split view with many scroll bars side by side
+		JScrollBar[] scrollBars = new JScrollBar[10];
+		for( int i = 0; i < scrollBars.length; i++ )
+			scrollBars[i] = createScrollBar();
+		int width = scrollBars[0].getWidth();
+
+		TestUtils.RecordingRepaintManager repaintManager = new TestUtils.RecordingRepaintManager( scrollBars );
+		RepaintManager.setCurrentManager( repaintManager );
+		try {
+			// fast mouse sweep across scroll bars (all mouse events within one frame)
+			int[] hoverChanges = new int[1];
+			int[] deferredBatchCount = new int[1];
+			EventQueue.invokeAndWait( () -> {
+				JScrollBar lastScrollBar = null;
+				for( int x = 0; x < width * scrollBars.length; x += 2 ) {
+					JScrollBar scrollBar = scrollBars[x / width];
+					if( scrollBar != lastScrollBar ) {
+						if( lastScrollBar != null ) {
+							dispatchMouseEvent( lastScrollBar, MouseEvent.MOUSE_EXITED, -1, 200 );
+							hoverChanges[0]++;
+						}
+						dispatchMouseEvent( scrollBar, MouseEvent.MOUSE_ENTERED, x % width, 200 );
+						hoverChanges[0]++;
+						lastScrollBar = scrollBar;
+					}
+					dispatchMouseEvent( scrollBar, MouseEvent.MOUSE_MOVED, x % width, 200 );
+				}
+
+				// check in same event because deferred repaints may be performed immediately after it
+				deferredBatchCount[0] = repaintManager.getBatchCount();
+			} );
+
+			// repaints were deferred
+			assertEquals( 0, deferredBatchCount[0] );
+
+			EventQueue.invokeAndWait( FlatRepaintCoalescer::flushPending );
+
+			// all hover changes are repainted together, one region per scroll bar
+			assertEquals( 1, repaintManager.getBatchCount() );
+			assertEquals( scrollBars.length, repaintManager.getRegions().size() );
+			assertTrue( hoverChanges[0] > scrollBars.length, "hover changes " + hoverChanges[0] );
+		} finally {
+			RepaintManager.setCurrentManager( null );
+		}
+	}
+
+	@Test
+	void hoverRepaintThumbOnly() throws Exception {
+		JScrollBar scrollBar = createScrollBar();
+		TestScrollBarUI ui = new TestScrollBarUI();
+		scrollBar.setUI( ui );
+		scrollBar.doLayout();
+		Rectangle thumbBounds = new Rectangle( ui.getThumbBounds() );
+		int x = scrollBar.getWidth() / 2;
+
+		// hover track (below thumb)
+		dispatchMouseEventAndFlush( scrollBar, MouseEvent.MOUSE_MOVED, x, 200 );
+		assertTrue( ui.hoverTrack );
+		assertFalse( ui.hoverThumb );
+
+		TestUtils.RecordingRepaintManager repaintManager = new TestUtils.RecordingRepaintManager( scrollBar );
+		RepaintManager.setCurrentManager( repaintManager );
+		try {
+			// move mouse over thumb and back
+			dispatchMouseEventAndFlush( scrollBar, MouseEvent.MOUSE_MOVED, x, thumbBounds.y + 1 );
+			assertTrue( ui.hoverThumb );
+			dispatchMouseEventAndFlush( scrollBar, MouseEvent.MOUSE_MOVED, x, 200 );
+			assertFalse( ui.hoverThumb );
+
+			// only thumb is repainted
+			// (BasicScrollBarUI also repaints thumb on thumb rollover changes)
+			assertFalse( repaintManager.getRegions().isEmpty() );
+			for( Rectangle r : repaintManager.getRegions() )
+				assertEquals( thumbBounds, r );
+		} finally {
+			RepaintManager.setCurrentManager( null );
+		}
+	}
+
+	private static JScrollBar createScrollBar() {
+		JScrollBar scrollBar = new JScrollBar( JScrollBar.VERTICAL, 0, 10, 0, 100 );
+		scrollBar.setSize( scrollBar.getPreferredSize().width, 300 );
+		scrollBar.doLayout();
+		return scrollBar;
+	}
+
+	private static void dispatchMouseEvent( JScrollBar scrollBar, int id, int x, int y ) {
+		scrollBar.dispatchEvent( new MouseEvent( scrollBar, id, System.currentTimeMillis(), 0,
+			x, y, x, y, 0, false, MouseEvent.NOBUTTON ) );
+	}
+
+	private static void dispatchMouseEventAndFlush( JScrollBar scrollBar, int id, int x, int y ) throws Exception {
+		EventQueue.invokeAndWait( () -> {
+			dispatchMouseEvent( scrollBar, id, x, y );
+			FlatRepaintCoalescer.flushPending();
+		} );
+	}
+
+	//---- class TestScrollBarUI ----------------------------------------------
+
+	private static class TestScrollBarUI
+		extends FlatScrollBarUI
+	{
+		@Override
+		protected Rectangle getThumbBounds() {
+			return super.getThumbBounds();
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.ComponentOrientation;
+import java.awt.EventQueue;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import javax.swing.JLabel;
+import javax.swing.JTabbedPane;
+import javax.swing.RepaintManager;
+import javax.swing.SwingConstants;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.icons.FlatFileViewFileIcon;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatTabbedPane
+{
+	@BeforeAll
+	static void setup() {
+		TestUtils.setup( false );
+	}
+
+	@AfterAll
+	static void cleanup() {
+		TestUtils.cleanup();
+	}
+
+	@Test
+	void tabSizeCache() {
+		JTabbedPane tabbedPane = createTabbedPane( JTabbedPane.WRAP_TAB_LAYOUT, 20 );
+		assertSameLayout( tabbedPane );
+
+		tabbedPane.setTitleAt( 3, "a much longer title" );
+		assertSameLayout( tabbedPane );
+
+		tabbedPane.setIconAt( 4, null );
+		tabbedPane.setIconAt( 5, new FlatFileViewFileIcon() );
+		assertSameLayout( tabbedPane );
+
+		tabbedPane.setSelectedIndex( 7 );
+		tabbedPane.putClientProperty( FlatClientProperties.TABBED_PANE_TAB_WIDTH_MODE,
+			FlatClientProperties.TABBED_PANE_TAB_WIDTH_MODE_COMPACT );
+		assertSameLayout( tabbedPane );
+
+		tabbedPane.removeTabAt( 0 );
+		tabbedPane.insertTab( "inserted", null, new JLabel( "inserted" ), null, 2 );
+		assertSameLayout( tabbedPane );
+
+		((JLabel)tabbedPane.getComponentAt( 6 )).putClientProperty( FlatClientProperties.TABBED_PANE_TAB_CLOSABLE, true );
+		assertSameLayout( tabbedPane );
+
+		tabbedPane.setFont( tabbedPane.getFont().deriveFont( 20f ) );
+		assertSameLayout( tabbedPane );
+	}
+
+	@Test
+	void tabForCoordinate() throws Exception {
+		// run on event dispatch thread because in right-to-left scroll tab layout
+		// the viewport may be scrolled asynchronously
+		EventQueue.invokeAndWait( () -> {
+			for( int policy : new int[] { JTabbedPane.WRAP_TAB_LAYOUT, JTabbedPane.SCROLL_TAB_LAYOUT } ) {
+				for( int placement : new int[] { SwingConstants.TOP, SwingConstants.LEFT } ) {
+					for( boolean leftToRight : new boolean[] { true, false } )
+						assertSameTabForCoordinate( policy, placement, leftToRight );
+				}
+			}
+		} );
+	}
+
+	@Test
+	void rolloverRepaint() throws Exception {
+		JTabbedPane tabbedPane = createTabbedPane( JTabbedPane.WRAP_TAB_LAYOUT, 10 );
+		Rectangle firstTabBounds = tabbedPane.getBoundsAt( 0 );
+		int y = firstTabBounds.y + (firstTabBounds.height / 2);
+
+		TestUtils.RecordingRepaintManager repaintManager = new TestUtils.RecordingRepaintManager( tabbedPane );
+		RepaintManager.setCurrentManager( repaintManager );
+		try {
+			// fast mouse sweep across tab strip (all mouse events within one frame)
+			int[] rolloverChanges = new int[1];
+			int[] deferredBatchCount = new int[1];
+			EventQueue.invokeAndWait( () -> {
+				int lastTab = -1;
+				for( int x = 0; x < tabbedPane.getWidth(); x += 16 ) {
+					tabbedPane.dispatchEvent( new MouseEvent( tabbedPane, MouseEvent.MOUSE_MOVED,
+						System.currentTimeMillis(), 0, x, y, x, y, 0, false, MouseEvent.NOBUTTON ) );
+
+					int tab = tabbedPane.indexAtLocation( x, y );
+					if( tab != lastTab ) {
+						rolloverChanges[0]++;
+						lastTab = tab;
+					}
+				}
+
+				// check in same event because deferred repaints may be performed immediately after it
+				deferredBatchCount[0] = repaintManager.getBatchCount();
+			} );
+
+			// repaints were deferred
+			assertEquals( 0, deferredBatchCount[0] );
+
+			EventQueue.invokeAndWait( FlatRepaintCoalescer::flushPending );
+
+			// all rollover changes are repainted together
+			assertEquals( 1, repaintManager.getBatchCount() );
+			assertTrue( rolloverChanges[0] > 2, "rollover changes " + rolloverChanges[0] );
+
+			// only tabs are repainted
+			for( Rectangle r : repaintManager.getRegions() )
+				assertTrue( r.height < tabbedPane.getHeight() / 2, "region " + r );
+		} finally {
+			RepaintManager.setCurrentManager( null );
+			tabbedPane.removeNotify();
+		}
+	}
+
+	private static void assertSameTabForCoordinate( int tabLayoutPolicy, int tabPlacement, boolean leftToRight ) {
+		JTabbedPane tabbedPane = createTabbedPane( tabLayoutPolicy, 50 );
+		tabbedPane.setTabPlacement( tabPlacement );
+		tabbedPane.setComponentOrientation( leftToRight
+			? ComponentOrientation.LEFT_TO_RIGHT
+			: ComponentOrientation.RIGHT_TO_LEFT );
+		layout( tabbedPane );
+
+		// compare binary search with linear search
+		for( int y = 0; y < tabbedPane.getHeight(); y += 3 ) {
+			for( int x = 0; x < tabbedPane.getWidth(); x += 3 ) {
+				assertEquals( linearTabForCoordinate( tabbedPane, x, y ),
+					tabbedPane.indexAtLocation( x, y ), "at " + x + "," + y );
+			}
+		}
+	}
+
+	private static int linearTabForCoordinate( JTabbedPane tabbedPane, int x, int y ) {
+		// in scroll tab layout, tabs are only hit within the viewport
+		FlatTabbedPaneUI ui = (FlatTabbedPaneUI) tabbedPane.getUI();
+		if( ui.tabViewport != null && !ui.tabViewport.getBounds().contains( x, y ) )
+			return -1;
+
+		int tabCount = tabbedPane.getTabCount();
+		for( int i = 0; i < tabCount; i++ ) {
+			if( tabbedPane.getBoundsAt( i ).contains( x, y ) )
+				return i;
+		}
+		return -1;
+	}
+
+	private static JTabbedPane createTabbedPane( int tabLayoutPolicy, int tabCount ) {
+		JTabbedPane tabbedPane = new JTabbedPane( SwingConstants.TOP, tabLayoutPolicy );
+		for( int i = 0; i < tabCount; i++ ) {
+			tabbedPane.addTab( "Tab " + "xxxxxx".substring( i % 7 ) + i,
+				(i % 3 == 0) ? new FlatFileViewFileIcon() : null,
+				new JLabel( "content " + i ) );
+		}
+		tabbedPane.setSize( 600, 400 );
+		layout( tabbedPane );
+		return tabbedPane;
+	}
+
+	private static void layout( JTabbedPane tabbedPane ) {
+		// create (lightweight) peer so that tabbed pane becomes valid after layout
+		tabbedPane.addNotify();
+
+		// revalidate() does nothing because tabbed pane has no parent
+		tabbedPane.invalidate();
+		tabbedPane.validate();
+	}
+
+	/**
+	 * Compares tab bounds of the given tabbed pane (which uses cached tab sizes)
+	 * with tab bounds of a new tabbed pane with same tabs (without cached tab sizes).
+	 */
+	private static void assertSameLayout( JTabbedPane tabbedPane ) {
+		layout( tabbedPane );
+
+		JTabbedPane expected = new JTabbedPane( tabbedPane.getTabPlacement(), tabbedPane.getTabLayoutPolicy() );
+		expected.setFont( tabbedPane.getFont() );
+		expected.putClientProperty( FlatClientProperties.TABBED_PANE_TAB_WIDTH_MODE,
+			tabbedPane.getClientProperty( FlatClientProperties.TABBED_PANE_TAB_WIDTH_MODE ) );
+		int tabCount = tabbedPane.getTabCount();
+		for( int i = 0; i < tabCount; i++ ) {
+			JLabel content = new JLabel();
+			content.putClientProperty( FlatClientProperties.TABBED_PANE_TAB_CLOSABLE,
+				((JLabel)tabbedPane.getComponentAt( i )).getClientProperty( FlatClientProperties.TABBED_PANE_TAB_CLOSABLE ) );
+			expected.addTab( tabbedPane.getTitleAt( i ), tabbedPane.getIconAt( i ), content );
+		}
+		expected.setSelectedIndex( tabbedPane.getSelectedIndex() );
+		expected.setSize( tabbedPane.getSize() );
+		layout( expected );
+
+		for( int i = 0; i < tabCount; i++ )
+			assertEquals( expected.getBoundsAt( i ), tabbedPane.getBoundsAt( i ), "tab " + i );
+	}
+}
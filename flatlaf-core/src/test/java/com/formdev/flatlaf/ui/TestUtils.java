@@ -16,14 +16,24 @@
 
 package com.formdev.flatlaf.ui;
 
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
 import java.awt.Font;
+import java.awt.Rectangle;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
 import javax.swing.UIManager;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
@@ -116,4 +126,47 @@ public class TestUtils
 		}
 		return tests;
 	}
+
+	//---- class RecordingRepaintManager --------------------------------------
+
+	/**
+	 * A repaint manager that records repaint requests of the given components
+	 * (instead of painting).
+	 * Install with {@link RepaintManager#setCurrentManager(RepaintManager)}.
+	 */
+	public static class RecordingRepaintManager
+		extends RepaintManager
+	{
+		private final List<JComponent> components;
+		private final List<Rectangle> regions = new ArrayList<>();
+		private final Set<AWTEvent> events = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		public RecordingRepaintManager( JComponent... components ) {
+			this.components = Arrays.asList( components );
+		}
+
+		@Override
+		public synchronized void addDirtyRegion( JComponent c, int x, int y, int w, int h ) {
+			if( !components.contains( c ) )
+				return;
+
+			regions.add( new Rectangle( x, y, w, h ) );
+			events.add( EventQueue.getCurrentEvent() );
+		}
+
+		/** Returns the requested repaint regions. */
+		public synchronized List<Rectangle> getRegions() {
+			return new ArrayList<>( regions );
+		}
+
+		/** Returns the number of events (e.g. mouse or timer events) that requested repaints. */
+		public synchronized int getBatchCount() {
+			return events.size();
+		}
+
+		public synchronized void reset() {
+			regions.clear();
+			events.clear();
+		}
+	}
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestAnimator
+{
+	@Test
+	void sharedPulse() throws Exception {
+		int count = 50;
+		CountDownLatch endLatch = new CountDownLatch( count );
+		List<List<AWTEvent>> events = new ArrayList<>();
+		List<Animator> animators = new ArrayList<>();
+
+		EventQueue.invokeAndWait( () -> {
+			for( int i = 0; i < count; i++ ) {
+				List<AWTEvent> animatorEvents = new ArrayList<>();
+				events.add( animatorEvents );
+				Animator animator = new Animator( 100, fraction -> {
+					animatorEvents.add( EventQueue.getCurrentEvent() );
+				}, endLatch::countDown );
+				animators.add( animator );
+				animator.start();
+			}
+		} );
+
+		assertTrue( endLatch.await( 5, TimeUnit.SECONDS ) );
+
+		// all animators started at the same time receive timing events
+		// in the same timer events (the last event may differ by one frame
+		// because start times of the animators differ slightly)
+		List<AWTEvent> expected = events.get( 0 );
+		for( List<AWTEvent> animatorEvents : events ) {
+			int n = Math.min( expected.size(), animatorEvents.size() );
+			assertTrue( Math.abs( expected.size() - animatorEvents.size() ) <= 1 );
+			for( int i = 0; i < n; i++ )
+				assertSame( expected.get( i ), animatorEvents.get( i ), "frame " + i );
+		}
+
+		// timing events are delivered in distinct frames
+		assertEquals( expected.size(), new HashSet<>( expected ).size() );
+
+		EventQueue.invokeAndWait( () -> {
+			for( Animator animator : animators )
+				assertFalse( animator.isRunning() );
+		} );
+	}
+
+	@Test
+	void governor() throws Exception {
+		Animator.resetGovernorStatistics();
+
+		// animation jumps to end long before its duration elapsed
+		runOverloadedAnimation();
+
+		Animator.GovernorStatistics stats = Animator.getGovernorStatistics();
+		assertEquals( Animator.GovernorState.JUMP_TO_END, stats.getState() );
+		assertEquals( 1, stats.getJumpedToEndCount() );
+		assertTrue( stats.getStateChangeCount() >= 1 );
+		assertTrue( stats.getDroppedFrameCount() > 0 );
+		assertTrue( stats.getMaxLatency() >= 100 );
+
+		// disabling governor resets state
+		Animator.setGovernorEnabled( false );
+		assertEquals( Animator.GovernorState.NORMAL, Animator.getGovernorState() );
+		Animator.setGovernorEnabled( true );
+	}
+
+	@Test
+	void governorSlowFirstFrame() throws Exception {
+		// reset governor state
+		Animator.setGovernorEnabled( false );
+		Animator.setGovernorEnabled( true );
+
+		assertSlowFirstFrameNotJumpedToEnd();
+	}
+
+	@Test
+	void governorSlowFirstFrameAfterJumpToEnd() throws Exception {
+		// governor stays in jump-to-end state after all animations ended
+		runOverloadedAnimation();
+		assertEquals( Animator.GovernorState.JUMP_TO_END, Animator.getGovernorState() );
+
+		assertSlowFirstFrameNotJumpedToEnd();
+	}
+
+	/**
+	 * Runs an animation on a busy event dispatch thread
+	 * until the governor lets it jump to its end.
+	 */
+	private static void runOverloadedAnimation() throws Exception {
+		CountDownLatch endLatch = new CountDownLatch( 1 );
+		Animator animator = new Animator( 30000, fraction -> {
+			try {
+				Thread.sleep( 150 );
+			} catch( InterruptedException ex ) {
+				// ignore
+			}
+		}, endLatch::countDown );
+		EventQueue.invokeAndWait( animator::start );
+
+		assertTrue( endLatch.await( 10, TimeUnit.SECONDS ) );
+	}
+
+	/**
+	 * Starts an animation, which is delayed by a single slow event,
+	 * and checks that it does not jump to its end.
+	 */
+	private static void assertSlowFirstFrameNotJumpedToEnd() throws Exception {
+		Animator.resetGovernorStatistics();
+
+		List<Float> fractions = new ArrayList<>();
+		CountDownLatch endLatch = new CountDownLatch( 1 );
+		Animator animator = new Animator( 300, fractions::add, endLatch::countDown );
+		long startTime = System.nanoTime();
+		EventQueue.invokeAndWait( () -> {
+			animator.start();
+
+			// simulate single slow event (e.g. repaint of whole window)
+			// that delays first frame
+			try {
+				Thread.sleep( 200 );
+			} catch( InterruptedException ex ) {
+				// ignore
+			}
+		} );
+
+		assertTrue( endLatch.await( 5, TimeUnit.SECONDS ) );
+		long duration = (System.nanoTime() - startTime) / 1000000;
+
+		// animation did not jump to end
+		assertEquals( 0, Animator.getGovernorStatistics().getJumpedToEndCount() );
+		assertTrue( duration >= 300, "duration " + duration );
+		assertTrue( fractions.size() > 2, "frames " + fractions.size() );
+	}
+
+	@Test
+	void failingTarget() throws Exception {
+		CountDownLatch endLatch = new CountDownLatch( 1 );
+		List<Float> fractions = new ArrayList<>();
+		Animator failingAnimator = new Animator( 1000, fraction -> {
+			throw new IllegalStateException( "test" );
+		} );
+		Animator animator = new Animator( 100, fractions::add, endLatch::countDown );
+		EventQueue.invokeAndWait( () -> {
+			failingAnimator.start();
+			animator.start();
+		} );
+
+		// other animators still receive timing events and end normally
+		assertTrue( endLatch.await( 5, TimeUnit.SECONDS ) );
+		assertTrue( fractions.size() > 1, "frames " + fractions.size() );
+		assertEquals( 1, fractions.get( fractions.size() - 1 ) );
+
+		// failed animator was cancelled
+		EventQueue.invokeAndWait( () -> {
+			assertFalse( failingAnimator.isRunning() );
+		} );
+	}
+
+	@Test
+	void repeat() throws Exception {
+		List<Float> fractions = new ArrayList<>();
+		CountDownLatch endLatch = new CountDownLatch( 1 );
+		Animator animator = new Animator( 50, fractions::add, endLatch::countDown );
+		animator.setRepeat( true );
+		EventQueue.invokeAndWait( animator::start );
+
+		// runs longer than duration
+		Thread.sleep( 300 );
+		EventQueue.invokeAndWait( () -> {
+			assertTrue( animator.isRunning() );
+			animator.stop();
+		} );
+		assertEquals( 0, endLatch.getCount() );
+
+		// fraction starts over at each cycle
+		int cycles = 0;
+		for( int i = 1; i < fractions.size(); i++ ) {
+			if( fractions.get( i ) < fractions.get( i - 1 ) )
+				cycles++;
+		}
+		assertTrue( cycles >= 2, "cycles " + cycles );
+	}
+
+	@Test
+	void metrics() throws Exception {
+		Animator.setMetricsEnabled( true );
+		try {
+			Animator.resetAnimationMetrics();
+
+			CountDownLatch endLatch = new CountDownLatch( 1 );
+			Animator animator1 = new Animator( 100, fraction -> {}, endLatch::countDown );
+			Animator animator2 = new Animator( 1000, fraction -> {} );
+			EventQueue.invokeAndWait( () -> {
+				animator1.start();
+				animator2.start();
+			} );
+
+			assertTrue( endLatch.await( 5, TimeUnit.SECONDS ) );
+			EventQueue.invokeAndWait( animator2::cancel );
+
+			Animator.AnimationMetrics metrics = Animator.getAnimationMetrics();
+			assertEquals( 2, metrics.getStartedCount() );
+			assertEquals( 1, metrics.getCompletedCount() );
+			assertEquals( 1, metrics.getCancelledCount() );
+			assertTrue( metrics.getDeliveredFrameCount() > 0 );
+			assertTrue( metrics.getTargetFrameCount() >= metrics.getDeliveredFrameCount() - 1 );
+			assertTrue( metrics.getTimingEventCount() >= metrics.getDeliveredFrameCount() );
+
+			// each delivered frame is in histogram
+			long histogramCount = 0;
+			for( long count : metrics.getLateFrameHistogram() )
+				histogramCount += count;
+			assertEquals( metrics.getDeliveredFrameCount(), histogramCount );
+
+			Animator.resetAnimationMetrics();
+			assertEquals( 0, Animator.getAnimationMetrics().getStartedCount() );
+		} finally {
+			Animator.setMetricsEnabled( false );
+		}
+
+		// not collected if disabled
+		EventQueue.invokeAndWait( () -> new Animator( 10, fraction -> {} ).start() );
+		assertEquals( 0, Animator.getAnimationMetrics().getStartedCount() );
+	}
+
+	@Test
+	void lateFrameHistogram() {
+		assertEquals( 0, Animator.AnimationMetrics.getLateFrameBucketStart( 0 ) );
+		assertEquals( 1, Animator.AnimationMetrics.getLateFrameBucketStart( 1 ) );
+		assertEquals( 128, Animator.AnimationMetrics.getLateFrameBucketStart( 8 ) );
+	}
+
+	@Test
+	void frameRate() {
+		int oldFrameRate = Animator.getFrameRate();
+		try {
+			Animator.setFrameRate( 30 );
+			assertEquals( 30, Animator.getFrameRate() );
+
+			assertThrows( IllegalArgumentException.class, () -> Animator.setFrameRate( 0 ) );
+			assertEquals( 30, Animator.getFrameRate() );
+		} finally {
+			Animator.setFrameRate( oldFrameRate );
+		}
+	}
+}
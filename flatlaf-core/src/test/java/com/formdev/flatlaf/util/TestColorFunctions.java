@@ -62,6 +62,43 @@ public class TestColorFunctions
 		assertEquals( new Color( 0x400040 ), ColorFunctions.shade( Color.magenta, 0.75f ) );
 	}
 
+	@Test
+	void primitiveColorFunctions() {
+		float[] hsla = new float[4];
+		Color[] colors = {
+			Color.red, Color.magenta, Color.gray, Color.black, Color.white,
+			new Color( 0x884444 ), new Color( 0x80123456, true ), new Color( 0x2675BF ),
+		};
+
+		for( Color color : colors ) {
+			int argb = color.getRGB();
+
+			assertEquals( ColorFunctions.lighten( color, 0.2f ).getRGB(), ColorFunctions.lighten( argb, 0.2f, hsla ) );
+			assertEquals( ColorFunctions.darken( color, 0.2f ).getRGB(), ColorFunctions.darken( argb, 0.2f, hsla ) );
+			assertEquals( ColorFunctions.saturate( color, 0.2f ).getRGB(), ColorFunctions.saturate( argb, 0.2f, hsla ) );
+			assertEquals( ColorFunctions.desaturate( color, 0.2f ).getRGB(), ColorFunctions.desaturate( argb, 0.2f, hsla ) );
+			assertEquals( ColorFunctions.spin( color, 40 ).getRGB(), ColorFunctions.spin( argb, 40, hsla ) );
+			assertEquals( ColorFunctions.fade( color, 0.2f ).getRGB(), ColorFunctions.fade( argb, 0.2f ) );
+			assertEquals( ColorFunctions.mix( color, Color.green, 0.25f ).getRGB(), ColorFunctions.mix( argb, Color.green.getRGB(), 0.25f ) );
+			for( float weight : new float[] { -0.5f, 0, 1, 1.5f } )
+				assertEquals( ColorFunctions.mix( color, Color.green, weight ).getRGB(), ColorFunctions.mix( argb, Color.green.getRGB(), weight ) );
+			assertEquals( ColorFunctions.tint( color, 0.25f ).getRGB(), ColorFunctions.tint( argb, 0.25f ) );
+			assertEquals( ColorFunctions.shade( color, 0.25f ).getRGB(), ColorFunctions.shade( argb, 0.25f ) );
+			assertEquals( ColorFunctions.luma( color ), ColorFunctions.luma( argb ) );
+
+			ColorFunctions.ColorFunction[] functions = {
+				new ColorFunctions.HSLIncreaseDecrease( 2, true, 10, false, true ),
+				new ColorFunctions.Fade( 50 ),
+			};
+			assertEquals( ColorFunctions.applyFunctions( color, functions ).getRGB(),
+				ColorFunctions.applyFunctions( argb, hsla, functions ) );
+
+			ColorFunctions.ColorFunction mix = new ColorFunctions.Mix( Color.blue, 30 );
+			assertEquals( ColorFunctions.applyFunctions( color, mix ).getRGB(),
+				ColorFunctions.applyFunctions( argb, hsla, mix ) );
+		}
+	}
+
 	@Test
 	void luma() {
 		assertEquals( 0, ColorFunctions.luma( Color.black ) );
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestGrayFilter
+{
+	@Test
+	void filterPixels() {
+		GrayFilter filter = GrayFilter.createDisabledIconFilter( false );
+		int[] pixels = randomPixels( 1000 );
+		int[] expected = new int[pixels.length];
+		for( int i = 0; i < pixels.length; i++ )
+			expected[i] = filter.filterRGB( 0, 0, pixels[i] );
+
+		filter.filterRGB( pixels, 0, pixels.length );
+		assertArrayEquals( expected, pixels );
+	}
+
+	@Test
+	void filterImage() {
+		// small image and large image (filtered in parallel)
+		filterImage( new GrayFilter( -20, -70, 50 ), 30, 20, BufferedImage.TYPE_INT_ARGB );
+		filterImage( new GrayFilter( -20, -70, 50 ), 600, 500, BufferedImage.TYPE_INT_ARGB );
+		filterImage( new GrayFilter( 25, -25, 100 ), 30, 20, BufferedImage.TYPE_INT_RGB );
+		filterImage( new GrayFilter( 25, -25, 100 ), 30, 20, BufferedImage.TYPE_4BYTE_ABGR );
+	}
+
+	@Test
+	void subclass() {
+		// bulk filtering must invoke overridden filterRGB(int,int,int)
+		GrayFilter filter = new GrayFilter() {
+			@Override
+			public int filterRGB( int x, int y, int rgb ) {
+				return rgb ^ 0xffffff;
+			}
+		};
+
+		int[] pixels = randomPixels( 100 );
+		int[] expected = new int[pixels.length];
+		for( int i = 0; i < pixels.length; i++ )
+			expected[i] = pixels[i] ^ 0xffffff;
+
+		filter.filterRGB( pixels, 0, pixels.length );
+		assertArrayEquals( expected, pixels );
+	}
+
+	private static void filterImage( GrayFilter filter, int width, int height, int type ) {
+		BufferedImage image = new BufferedImage( width, height, type );
+		image.setRGB( 0, 0, width, height, randomPixels( width * height ), 0, width );
+
+		int[] expected = image.getRGB( 0, 0, width, height, null, 0, width );
+		for( int i = 0; i < expected.length; i++ ) {
+			expected[i] = filter.filterRGB( 0, 0, expected[i] );
+			if( type == BufferedImage.TYPE_INT_RGB )
+				expected[i] |= 0xff000000;
+		}
+
+		filter.filter( image );
+		assertArrayEquals( expected, image.getRGB( 0, 0, width, height, null, 0, width ) );
+	}
+
+	private static int[] randomPixels( int count ) {
+		Random random = new Random( 42 );
+		int[] pixels = new int[count];
+		for( int i = 0; i < count; i++ ) {
+			// avoid alpha values in range [1..254] because BufferedImage.setRGB()
+			// may round translucent pixels (e.g. for TYPE_4BYTE_ABGR)
+			pixels[i] = (random.nextInt() & 0xffffff) | (random.nextBoolean() ? 0xff000000 : 0);
+		}
+		return pixels;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestLRUCache
+{
+	@Test
+	void evictLeastRecentlyUsed() {
+		LRUCache<String, String> cache = new LRUCache<>( 2, false );
+		cache.put( "a", "A" );
+		cache.put( "b", "B" );
+
+		// access "a" so that "b" becomes least recently used
+		assertEquals( "A", cache.get( "a" ) );
+
+		cache.put( "c", "C" );
+		assertEquals( 2, cache.entryCount() );
+		assertNull( cache.get( "b" ) );
+		assertEquals( "A", cache.get( "a" ) );
+		assertEquals( "C", cache.get( "c" ) );
+
+		LRUCache.Statistics stats = cache.getStatistics();
+		assertEquals( 3, stats.getHitCount() );
+		assertEquals( 1, stats.getMissCount() );
+		assertEquals( 1, stats.getEvictionCount() );
+	}
+
+	@Test
+	void weigher() {
+		LRUCache<String, String> cache = new LRUCache<>( 5, false, String::length );
+		cache.put( "a", "aa" );
+		cache.put( "b", "bbb" );
+		assertEquals( 5, cache.size() );
+
+		// replacing value updates size
+		cache.put( "a", "a" );
+		assertEquals( 4, cache.size() );
+
+		// evicts "a" and "b"
+		cache.put( "c", "ccccc" );
+		assertEquals( 5, cache.size() );
+		assertEquals( 1, cache.entryCount() );
+		assertEquals( 2, cache.getStatistics().getEvictionCount() );
+	}
+
+	@Test
+	void maxSize() {
+		LRUCache<Integer, Integer> cache = new LRUCache<>( 10, true );
+		for( int i = 0; i < 10; i++ )
+			cache.put( i, i );
+		assertEquals( 10, cache.entryCount() );
+
+		cache.setMaxSize( 3 );
+		assertEquals( 3, cache.entryCount() );
+		assertEquals( 9, cache.get( 9 ) );
+		assertNull( cache.get( 0 ) );
+
+		// null value removes entry
+		cache.put( 9, null );
+		assertEquals( 2, cache.entryCount() );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+	}
+}
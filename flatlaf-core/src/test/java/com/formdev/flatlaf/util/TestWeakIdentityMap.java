@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestWeakIdentityMap
+{
+	@Test
+	void identity() {
+		WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+		String key1 = new String( "key" );
+		String key2 = new String( "key" );
+
+		map.put( key1, "1" );
+		map.put( key2, "2" );
+		assertEquals( 2, map.size() );
+		assertEquals( "1", map.get( key1 ) );
+		assertEquals( "2", map.get( key2 ) );
+		assertNull( map.get( "key" ) );
+
+		assertEquals( "1", map.put( key1, "one" ) );
+		assertEquals( "one", map.get( key1 ) );
+
+		assertEquals( "one", map.remove( key1 ) );
+		assertNull( map.get( key1 ) );
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	void resize() {
+		WeakIdentityMap<Object, Integer> map = new WeakIdentityMap<>();
+		List<Object> keys = new ArrayList<>();
+		for( int i = 0; i < 1000; i++ ) {
+			Object key = new Object();
+			keys.add( key );
+			map.put( key, i );
+		}
+
+		assertEquals( 1000, map.size() );
+		for( int i = 0; i < keys.size(); i++ )
+			assertEquals( i, map.get( keys.get( i ) ) );
+	}
+
+	@Test
+	void weakKeys() throws Exception {
+		WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+		Object key = new Object();
+		map.put( key, "strong" );
+		for( int i = 0; i < 100; i++ )
+			map.put( new Object(), "weak" );
+
+		// wait until garbage collector removed unreferenced keys
+		for( int i = 0; i < 50 && map.size() > 1; i++ ) {
+			System.gc();
+			Thread.sleep( 10 );
+		}
+
+		assertEquals( 1, map.size() );
+		assertEquals( "strong", map.get( key ) );
+	}
+}
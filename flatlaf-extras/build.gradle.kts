@@ -24,6 +24,9 @@ plugins {
 dependencies {
 	implementation( project( ":flatlaf-core" ) )
 	implementation( libs.jsvg )
+
+	testImplementation( libs.junit )
+	testRuntimeOnly( libs.junit.launcher )
 }
 
 flatlafModuleInfo {
@@ -35,6 +38,13 @@ java {
 	withJavadocJar()
 }
 
+tasks {
+	test {
+		useJUnitPlatform()
+		testLogging.exceptionFormat = org.gradle.api.tasks.testing.logging.TestExceptionFormat.FULL
+	}
+}
+
 flatlafPublish {
 	artifactId = "flatlaf-extras"
 	name = "FlatLaf Extras"
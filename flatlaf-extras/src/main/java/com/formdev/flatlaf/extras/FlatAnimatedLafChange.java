@@ -19,8 +19,13 @@ package com.formdev.flatlaf.extras;
 import java.awt.AlphaComposite;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.Window;
+import java.awt.geom.AffineTransform;
 import java.awt.image.VolatileImage;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -28,8 +33,10 @@ import javax.swing.JComponent;
 import javax.swing.JLayeredPane;
 import javax.swing.JRootPane;
 import javax.swing.RootPaneContainer;
+import javax.swing.Timer;
 import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.util.Animator;
+import com.formdev.flatlaf.util.SwingUtils;
 
 /**
  * Animated look and feel changing.
@@ -57,10 +64,27 @@ public class FlatAnimatedLafChange
 	 */
 	public static int resolution = 16;
 
+	/**
+	 * The time in milliseconds that snapshot images are kept after the animation
+	 * for reuse in following look and feel changes (e.g. if the user tries out several themes).
+	 * Use zero to release snapshot images immediately after the animation.
+	 * Default is 10000 ms.
+	 *
+	 * @since 3.8
+	 */
+	public static int snapshotRetentionTime = 10000;
+
 	private static Animator animator;
 	private static final Map<JLayeredPane, SnapshotLayer> snapshots = new WeakHashMap<>();
 	private static float alpha;
 
+	// snapshot layers (with snapshot images) kept for reuse after animation
+	private static final Map<JLayeredPane, SnapshotLayer> reusableSnapshots = new WeakHashMap<>();
+	private static Timer releaseTimer;
+
+	// time (in nanoseconds) when next animation frame may be painted
+	private static long nextFrameTime;
+
 	/**
 	 * Create a snapshot of the old UI and shows it on top of the UI.
 	 * Invoke before setting new look and feel.
@@ -83,37 +107,53 @@ public class FlatAnimatedLafChange
 		// create snapshots for all shown windows
 		Window[] windows = Window.getWindows();
 		for( Window window : windows ) {
-			if( !(window instanceof RootPaneContainer) || !window.isShowing() )
+			if( !(window instanceof RootPaneContainer) || !SwingUtils.isShowingOnScreen( window ) )
 				continue;
 
 			JLayeredPane layeredPane = ((RootPaneContainer)window).getLayeredPane();
 
-			// create snapshot image
-			// (using volatile image to have correct sub-pixel text rendering on Java 9+)
-			VolatileImage snapshotImage = layeredPane.createVolatileImage( layeredPane.getWidth(), layeredPane.getHeight() );
-			if( snapshotImage == null )
-				continue;
-
-			// paint window to snapshot image
-			layeredPane.paint( snapshotImage.getGraphics() );
-
+			SnapshotLayer snapshotLayer;
 			if( old ) {
-				// create snapshot layer, which is added to layered pane and paints
+				// snapshot only the part of the window that is on screen
+				Rectangle visibleBounds = getVisibleBounds( layeredPane );
+				if( visibleBounds == null )
+					continue;
+
+				// create (or reuse) snapshot layer, which is added to layered pane and paints
 				// snapshot with animated alpha
-				SnapshotLayer snapshotLayer = new SnapshotLayer();
-				snapshotLayer.setOpaque( true );
-				snapshotLayer.setSize( layeredPane.getSize() );
-				snapshotLayer.oldSnapshotImage = snapshotImage;
+				snapshotLayer = reusableSnapshots.remove( layeredPane );
+				if( snapshotLayer == null ) {
+					snapshotLayer = new SnapshotLayer();
+					snapshotLayer.setOpaque( true );
+				}
+				snapshotLayer.setBounds( visibleBounds );
+
+				// remember scale factor of screen (used to compute memory size)
+				GraphicsConfiguration gc = layeredPane.getGraphicsConfiguration();
+				if( gc != null ) {
+					AffineTransform t = gc.getDefaultTransform();
+					snapshotLayer.scaleX = t.getScaleX();
+					snapshotLayer.scaleY = t.getScaleY();
+				}
+
+				// create (or reuse) snapshot image
+				snapshotLayer.oldSnapshotImage = createSnapshotImage( layeredPane,
+					snapshotLayer.oldSnapshotImage, visibleBounds );
+				if( snapshotLayer.oldSnapshotImage == null ) {
+					snapshotLayer.flushSnapshotImages();
+					continue;
+				}
 
 				snapshots.put( layeredPane, snapshotLayer );
 			} else {
-				SnapshotLayer snapshotLayer = snapshots.get( layeredPane );
-				if( snapshotLayer == null ) {
-					snapshotImage.flush();
+				snapshotLayer = snapshots.get( layeredPane );
+				if( snapshotLayer == null )
 					continue;
-				}
 
-				snapshotLayer.newSnapshotImage = snapshotImage;
+				snapshotLayer.newSnapshotImage = createSnapshotImage( layeredPane,
+					snapshotLayer.newSnapshotImage, snapshotLayer.getBounds() );
+				if( snapshotLayer.newSnapshotImage == null )
+					continue;
 
 				// add snapshot layer to layered pane
 				layeredPane.add( snapshotLayer, Integer.valueOf( JLayeredPane.DRAG_LAYER + 1 ) );
@@ -124,6 +164,59 @@ public class FlatAnimatedLafChange
 		}
 	}
 
+	/**
+	 * Returns the bounds of the part of the layered pane that is on screen
+	 * (in layered pane coordinates); or {@code null} if it is not on any screen.
+	 */
+	private static Rectangle getVisibleBounds( JLayeredPane layeredPane ) {
+		Rectangle bounds = new Rectangle( layeredPane.getLocationOnScreen(), layeredPane.getSize() );
+		Rectangle visibleBounds = null;
+		for( GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices() ) {
+			Rectangle r = device.getDefaultConfiguration().getBounds().intersection( bounds );
+			if( !r.isEmpty() )
+				visibleBounds = (visibleBounds != null) ? visibleBounds.union( r ) : r;
+		}
+		if( visibleBounds == null )
+			return null;
+
+		visibleBounds.translate( -bounds.x, -bounds.y );
+		return visibleBounds;
+	}
+
+	/**
+	 * Paints the given area of the layered pane into a snapshot image.
+	 * The given image is reused if it has the same size and is compatible.
+	 */
+	private static VolatileImage createSnapshotImage( JLayeredPane layeredPane,
+		VolatileImage snapshotImage, Rectangle r )
+	{
+		// create snapshot image
+		// (using volatile image to have correct sub-pixel text rendering on Java 9+)
+		if( snapshotImage == null ||
+			snapshotImage.getWidth() != r.width ||
+			snapshotImage.getHeight() != r.height ||
+			snapshotImage.validate( layeredPane.getGraphicsConfiguration() ) == VolatileImage.IMAGE_INCOMPATIBLE )
+		{
+			if( snapshotImage != null )
+				snapshotImage.flush();
+
+			snapshotImage = layeredPane.createVolatileImage( r.width, r.height );
+			if( snapshotImage == null )
+				return null;
+		}
+
+		// paint window to snapshot image
+		Graphics2D g = snapshotImage.createGraphics();
+		try {
+			g.translate( -r.x, -r.y );
+			g.clipRect( r.x, r.y, r.width, r.height );
+			layeredPane.paint( g );
+		} finally {
+			g.dispose();
+		}
+		return snapshotImage;
+	}
+
 	/**
 	 * Starts an animation that shows the snapshot (created by {@link #showSnapshot()})
 	 * with a decreasing alpha. At the end, the snapshot is removed and the new UI is shown.
@@ -140,9 +233,17 @@ public class FlatAnimatedLafChange
 		showSnapshot( false );
 
 		// create animator
+		nextFrameTime = 0;
 		animator = new Animator( duration, fraction -> {
 			alpha = 1f - fraction;
 
+			// drop frame if painting of the last frame took longer than the time since then
+			// (e.g. large windows on 4K screens) to give the event dispatch thread time
+			// for other events (the snapshot is removed at the end of the animation anyway)
+			long startTime = System.nanoTime();
+			if( startTime < nextFrameTime )
+				return;
+
 			// repaint snapshots
 			for( Map.Entry<JLayeredPane, SnapshotLayer> e : snapshots.entrySet() ) {
 				if( e.getKey().isShowing() ) {
@@ -152,6 +253,9 @@ public class FlatAnimatedLafChange
 			}
 
 			Toolkit.getDefaultToolkit().sync();
+
+			long endTime = System.nanoTime();
+			nextFrameTime = endTime + (endTime - startTime);
 		}, () -> {
 			hideSnapshot();
 			animator = null;
@@ -162,6 +266,9 @@ public class FlatAnimatedLafChange
 	}
 
 	private static void hideSnapshot() {
+		if( snapshots.isEmpty() )
+			return;
+
 		// remove snapshots
 		for( Map.Entry<JLayeredPane, SnapshotLayer> e : snapshots.entrySet() ) {
 			JLayeredPane layeredPane = e.getKey();
@@ -170,7 +277,8 @@ public class FlatAnimatedLafChange
 			layeredPane.remove( snapshotLayer );
 			layeredPane.repaint();
 
-			snapshotLayer.flushSnapshotImages();
+			// keep snapshot layer and images for reuse
+			reusableSnapshots.put( layeredPane, snapshotLayer );
 
 			// run Runnable that FlatRootPaneUI put into client properties
 			JRootPane rootPane = layeredPane.getRootPane();
@@ -183,6 +291,24 @@ public class FlatAnimatedLafChange
 		}
 
 		snapshots.clear();
+
+		// release snapshot images after some time
+		if( snapshotRetentionTime > 0 ) {
+			if( releaseTimer == null ) {
+				releaseTimer = new Timer( snapshotRetentionTime, e -> releaseSnapshots() );
+				releaseTimer.setRepeats( false );
+			}
+			releaseTimer.setInitialDelay( snapshotRetentionTime );
+			releaseTimer.restart();
+		} else
+			releaseSnapshots();
+	}
+
+	private static void releaseSnapshots() {
+		// release system resources used by volatile images
+		for( SnapshotLayer snapshotLayer : reusableSnapshots.values() )
+			snapshotLayer.flushSnapshotImages();
+		reusableSnapshots.clear();
 	}
 
 	/**
@@ -195,6 +321,22 @@ public class FlatAnimatedLafChange
 			hideSnapshot();
 	}
 
+	/**
+	 * Returns the (estimated) memory size in bytes used by snapshot images.
+	 * This includes snapshot images kept for reuse (see {@link #snapshotRetentionTime}).
+	 * Snapshot images are usually stored in video memory.
+	 *
+	 * @since 3.8
+	 */
+	public static long getSnapshotMemorySize() {
+		long size = 0;
+		for( SnapshotLayer snapshotLayer : snapshots.values() )
+			size += snapshotLayer.getMemorySize();
+		for( SnapshotLayer snapshotLayer : reusableSnapshots.values() )
+			size += snapshotLayer.getMemorySize();
+		return size;
+	}
+
 	//---- class SnapshotLayer ------------------------------------------------
 
 	private static class SnapshotLayer
@@ -202,10 +344,12 @@ public class FlatAnimatedLafChange
 	{
 		VolatileImage oldSnapshotImage;
 		VolatileImage newSnapshotImage;
+		double scaleX = 1;
+		double scaleY = 1;
 
 		@Override
 		public void paint( Graphics g ) {
-			if( oldSnapshotImage.contentsLost() ||
+			if( oldSnapshotImage == null || oldSnapshotImage.contentsLost() ||
 				newSnapshotImage == null || newSnapshotImage.contentsLost() )
 			  return;
 
@@ -217,17 +361,27 @@ public class FlatAnimatedLafChange
 			g.drawImage( oldSnapshotImage, 0, 0, null );
 		}
 
-		@Override
-		public void removeNotify() {
-			super.removeNotify();
-			flushSnapshotImages();
-		}
-
 		void flushSnapshotImages() {
 			// release system resources used by volatile image
-			oldSnapshotImage.flush();
+			if( oldSnapshotImage != null )
+				oldSnapshotImage.flush();
 			if( newSnapshotImage != null )
 				newSnapshotImage.flush();
+			oldSnapshotImage = null;
+			newSnapshotImage = null;
+		}
+
+		long getMemorySize() {
+			return getMemorySize( oldSnapshotImage ) + getMemorySize( newSnapshotImage );
+		}
+
+		private long getMemorySize( VolatileImage image ) {
+			if( image == null )
+				return 0;
+
+			// on HiDPI screens (Java 9+), volatile images are created in device resolution;
+			// assume 4 bytes per pixel
+			return Math.round( image.getWidth() * scaleX ) * Math.round( image.getHeight() * scaleY ) * 4;
 		}
 	}
 }
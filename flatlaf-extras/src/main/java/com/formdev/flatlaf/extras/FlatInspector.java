@@ -48,6 +48,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JLayeredPane;
 import javax.swing.JMenuBar;
 import javax.swing.JRootPane;
@@ -58,6 +59,7 @@ import javax.swing.Popup;
 import javax.swing.PopupFactory;
 import javax.swing.RootPaneContainer;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import javax.swing.border.EmptyBorder;
@@ -67,6 +69,7 @@ import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.ui.FlatUIUtils;
 import com.formdev.flatlaf.ui.MigLayoutVisualPadding;
+import com.formdev.flatlaf.util.Animator;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -88,6 +91,9 @@ import com.formdev.flatlaf.util.UIScale;
  *       information about parent of UI component at mouse location</li>
  *   <li>press {@code Shift} key to decrease inspection level</li>
  * </ul>
+ * <p>
+ * While the UI inspector is active, an overlay in the upper right corner of the window
+ * shows animation metrics (see {@link Animator#getAnimationMetrics()}).
  *
  * @author Karl Tauber
  */
@@ -101,6 +107,11 @@ public class FlatInspector
 		InputEvent.ALT_DOWN_MASK |
 		InputEvent.META_DOWN_MASK;
 
+	// number of inspectors that currently show the metrics overlay
+	// and metrics enabled state before the first one was shown
+	private static int metricsOverlayCount;
+	private static boolean oldMetricsEnabled;
+
 	private final JRootPane rootPane;
 	private final MouseMotionListener mouseMotionListener;
 	private final AWTEventListener keyListener;
@@ -121,6 +132,9 @@ public class FlatInspector
 	private JComponent highlightFigure;
 	private Popup popup;
 
+	private JLabel metricsOverlay;
+	private Timer metricsTimer;
+
 	/**
 	 * Installs a key listener into the application that allows enabling and disabling
 	 * the UI inspector with the given keystroke (e.g. "ctrl shift alt X").
@@ -241,6 +255,13 @@ public class FlatInspector
 			public void windowDeactivated( WindowEvent e ) {
 				hidePopup();
 			}
+
+			@Override
+			public void windowClosed( WindowEvent e ) {
+				// disable inspector when window is disposed to hide metrics overlay,
+				// which restores animation metrics enabled state if this is the last overlay
+				setEnabled( false );
+			}
 		};
 	}
 
@@ -309,6 +330,8 @@ public class FlatInspector
 			lastX = pt.x;
 			lastY = pt.y;
 			inspect( lastX, lastY );
+
+			showMetricsOverlay();
 		} else {
 			lastComponent = null;
 			inspectParentLevel = 0;
@@ -318,6 +341,7 @@ public class FlatInspector
 			highlightFigure = null;
 
 			hidePopup();
+			hideMetricsOverlay();
 		}
 
 		propertyChangeSupport.firePropertyChange( "enabled", !enabled, enabled );
@@ -382,8 +406,8 @@ public class FlatInspector
 				if( c == null || !c.isVisible() )
 					continue;
 
-				// ignore highlight figure and tooltip
-				if( c == highlightFigure )
+				// ignore highlight figure, metrics overlay and tooltip
+				if( c == highlightFigure || c == metricsOverlay )
 					continue;
 
 				// ignore glass pane
@@ -436,6 +460,100 @@ public class FlatInspector
 		return c;
 	}
 
+	private void showMetricsOverlay() {
+		// collect animation metrics while any inspector is enabled
+		if( metricsOverlayCount == 0 ) {
+			oldMetricsEnabled = Animator.isMetricsEnabled();
+			Animator.setMetricsEnabled( true );
+		}
+		metricsOverlayCount++;
+
+		metricsOverlay = new JLabel() {
+			@Override
+			protected void paintComponent( Graphics g ) {
+				g.setColor( getBackground() );
+				g.fillRect( 0, 0, getWidth(), getHeight() );
+				super.paintComponent( g );
+			}
+		};
+		metricsOverlay.setBackground( new Color( 0, 0, 0, 160 ) );
+		metricsOverlay.setForeground( Color.white );
+		metricsOverlay.setBorder( new EmptyBorder( UIScale.scale( new Insets( 4, 8, 4, 8 ) ) ) );
+		rootPane.getLayeredPane().add( metricsOverlay, HIGHLIGHT_LAYER );
+		updateMetricsOverlay();
+
+		metricsTimer = new Timer( 500, e -> updateMetricsOverlay() );
+		metricsTimer.start();
+	}
+
+	private void hideMetricsOverlay() {
+		if( metricsOverlay == null )
+			return;
+
+		metricsTimer.stop();
+		metricsTimer = null;
+
+		metricsOverlay.getParent().remove( metricsOverlay );
+		metricsOverlay = null;
+
+		// restore metrics enabled state when last inspector is disabled
+		metricsOverlayCount--;
+		if( metricsOverlayCount == 0 )
+			Animator.setMetricsEnabled( oldMetricsEnabled );
+	}
+
+	private void updateMetricsOverlay() {
+		metricsOverlay.setText( buildMetricsText( Animator.getAnimationMetrics(), Animator.getGovernorState() ) );
+
+		// place in upper right corner
+		Dimension size = metricsOverlay.getPreferredSize();
+		int gap = UIScale.scale( 8 );
+		metricsOverlay.setBounds( rootPane.getLayeredPane().getWidth() - size.width - gap, gap,
+			size.width, size.height );
+		metricsOverlay.repaint();
+	}
+
+	private static String buildMetricsText( Animator.AnimationMetrics metrics, Animator.GovernorState governorState ) {
+		StringBuilder buf = new StringBuilder( 500 );
+		buf.append( "<html><style>" );
+		buf.append( "td { padding: 0 10 0 0; }" );
+		buf.append( "</style><table>" );
+
+		appendRow( buf, "Animations", "started " + metrics.getStartedCount()
+			+ ", completed " + metrics.getCompletedCount()
+			+ ", cancelled " + metrics.getCancelledCount() );
+
+		long targetFrames = metrics.getTargetFrameCount();
+		long deliveredFrames = metrics.getDeliveredFrameCount();
+		appendRow( buf, "Frames", deliveredFrames + " of " + targetFrames + " delivered"
+			+ ((targetFrames > 0) ? String.format( " (%d%%)", Math.min( deliveredFrames * 100 / targetFrames, 100 ) ) : "") );
+
+		StringBuilder lateFrames = new StringBuilder();
+		long[] histogram = metrics.getLateFrameHistogram();
+		for( int i = 1; i < histogram.length; i++ ) {
+			if( i > 1 )
+				lateFrames.append( ", " );
+			lateFrames.append( Animator.AnimationMetrics.getLateFrameBucketStart( i ) )
+				.append( (i < histogram.length - 1)
+					? "-" + Animator.AnimationMetrics.getLateFrameBucketStart( i + 1 )
+					: "+" )
+				.append( "ms: " ).append( histogram[i] );
+		}
+		appendRow( buf, "Late frames", lateFrames.toString() );
+
+		long timingEventCount = metrics.getTimingEventCount();
+		appendRow( buf, "timingEvent()", timingEventCount + " calls"
+			+ ((timingEventCount > 0)
+				? String.format( ", average %.2fms, max %.2fms",
+					metrics.getTimingEventTime() / timingEventCount, metrics.getMaxTimingEventTime() )
+				: "") );
+
+		appendRow( buf, "Governor", governorState.toString() );
+
+		buf.append( "</table></html>" );
+		return buf.toString();
+	}
+
 	private void showToolTip( Component c, int x, int y, int parentLevel ) {
 		hidePopup();
 
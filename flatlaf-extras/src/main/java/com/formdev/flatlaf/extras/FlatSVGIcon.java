@@ -16,41 +16,59 @@
 
 package com.formdev.flatlaf.extras;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Dimension2D;
 import java.awt.LinearGradientPaint;
 import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
 import java.awt.image.RGBImageFilter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import javax.swing.CellRendererPane;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import com.formdev.flatlaf.FlatIconColors;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatLaf.DisabledIconProvider;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.GrayFilter;
+import com.formdev.flatlaf.util.LRUCache;
 import com.formdev.flatlaf.util.LoggingFacade;
 import com.formdev.flatlaf.util.MultiResolutionImageSupport;
-import com.formdev.flatlaf.util.SoftCache;
 import com.formdev.flatlaf.util.UIScale;
 import com.github.weisj.jsvg.SVGDocument;
 import com.github.weisj.jsvg.parser.LoaderContext;
@@ -67,9 +85,15 @@ public class FlatSVGIcon
 {
 	private static boolean loggingEnabled = true;
 	private static boolean svgCacheEnabled = true;
-	// cache that uses soft references for values, which allows freeing SVG documents if no longer used
-	private static final SoftCache<String, SVGDocument> svgCache = new SoftCache<>();
-	private static final SVGLoader svgLoader = new SVGLoader();
+	private static boolean asyncLoadingEnabled;
+	// bounded LRU cache that (by default) uses soft references for values,
+	// which allows freeing SVG documents if no longer used
+	private static volatile LRUCache<String, SVGDocument> svgCache = new LRUCache<>( 1000, true );
+	// SVG documents that are currently loaded on background threads
+	private static final Map<String, CompletableFuture<SVGDocument>> pendingLoads = new HashMap<>();
+	// SVGLoader is not guaranteed to be thread-safe, so use one per thread
+	private static final ThreadLocal<SVGLoader> svgLoader = ThreadLocal.withInitial( SVGLoader::new );
+	private static ExecutorService loaderExecutor;
 
 	private final String name;
 	private final int width;
@@ -85,6 +109,11 @@ public class FlatSVGIcon
 	private boolean dark;
 	private boolean loadFailed;
 
+	// cache key of SVG document that is currently loaded asynchronously
+	private String asyncLoadingKey;
+	// components that painted this icon while it was loaded asynchronously
+	private List<WeakReference<Component>> asyncLoadingComponents;
+
 	/**
 	 * Creates an SVG icon from the given resource name.
 	 * <p>
@@ -272,7 +301,7 @@ public class FlatSVGIcon
 		this( null, -1, -1, 1, false, null, null );
 
 		try( InputStream in2 = in ) {
-			document = svgLoader.load( in2, null, LoaderContext.createDefault() );
+			document = svgLoader.get().load( in2, null, LoaderContext.createDefault() );
 
 			if( document == null ) {
 				loadFailed = true;
@@ -461,10 +490,14 @@ public class FlatSVGIcon
 	}
 
 	private void update() {
+		update( false );
+	}
+
+	private void update( boolean allowAsync ) {
 		if( loadFailed )
 			return;
 
-		if( dark == isDarkLaf() && document != null )
+		if( dark == isDarkLaf() && (document != null || (allowAsync && asyncLoadingKey != null)) )
 			return;
 
 		dark = isDarkLaf();
@@ -487,30 +520,190 @@ public class FlatSVGIcon
 			}
 		}
 
+		// load asynchronously if enabled or if the document is already loaded
+		// asynchronously (e.g. by another icon), which would block painting otherwise
+		String cacheKey = url.toString();
+		if( allowAsync && svgCacheEnabled && EventQueue.isDispatchThread() &&
+			(asyncLoadingEnabled || isLoadPending( cacheKey )) )
+		{
+			SVGDocument cachedDocument = getCachedSVG( cacheKey );
+			if( cachedDocument != null ) {
+				document = cachedDocument;
+				asyncLoadingKey = null;
+				return;
+			}
+
+			// load SVG document on background thread and keep painting
+			// previous document (if any) until loading is finished
+			if( !cacheKey.equals( asyncLoadingKey ) ) {
+				asyncLoadingKey = cacheKey;
+				loadSVGAsync( url ).whenComplete( (doc, ex) -> {
+					EventQueue.invokeLater( () -> asyncLoadingFinished( cacheKey, doc ) );
+				} );
+			}
+			return;
+		}
+
 		document = loadSVG( url );
 		loadFailed = (document == null);
+
+		if( asyncLoadingKey != null ) {
+			asyncLoadingKey = null;
+			repaintAsyncLoadingComponents();
+		}
+	}
+
+	private void asyncLoadingFinished( String cacheKey, SVGDocument doc ) {
+		// ignore result if a different document was requested in the meantime
+		if( !cacheKey.equals( asyncLoadingKey ) )
+			return;
+
+		asyncLoadingKey = null;
+		document = doc;
+		loadFailed = (doc == null);
+
+		repaintAsyncLoadingComponents();
+	}
+
+	/**
+	 * Repaints components that painted this icon while loading
+	 * (and revalidates them if icon size depends on SVG document).
+	 */
+	private void repaintAsyncLoadingComponents() {
+		List<WeakReference<Component>> components = asyncLoadingComponents;
+		asyncLoadingComponents = null;
+		if( components == null )
+			return;
+
+		boolean sizeChanged = (width <= 0 || height <= 0);
+		for( WeakReference<Component> ref : components ) {
+			Component c = ref.get();
+			if( c == null )
+				continue;
+
+			// renderer components (e.g. in lists, trees or tables) are not showing,
+			// so repaint the component that uses the renderer
+			Container rendererPane = SwingUtilities.getAncestorOfClass( CellRendererPane.class, c );
+			if( rendererPane != null && rendererPane.getParent() != null )
+				c = rendererPane.getParent();
+
+			if( sizeChanged && c instanceof JComponent )
+				((JComponent)c).revalidate();
+			c.repaint();
+		}
 	}
 
-	static synchronized SVGDocument loadSVG( URL url ) {
+	private void addAsyncLoadingComponent( Component c ) {
+		if( c == null )
+			return;
+
+		if( asyncLoadingComponents == null )
+			asyncLoadingComponents = new ArrayList<>();
+		else {
+			for( WeakReference<Component> ref : asyncLoadingComponents ) {
+				if( ref.get() == c )
+					return;
+			}
+		}
+		asyncLoadingComponents.add( new WeakReference<>( c ) );
+	}
+
+	static SVGDocument loadSVG( URL url ) {
 		if( !svgCacheEnabled )
 			return loadSVGUncached( url );
 
 		// get from our cache
 		String cacheKey = url.toString();
-		SVGDocument document = svgCache.get( cacheKey );
+		SVGDocument document = getCachedSVG( cacheKey );
 		if( document != null )
 			return document;
 
+		// wait for pending asynchronous loading (if any)
+		CompletableFuture<SVGDocument> pending;
+		synchronized( pendingLoads ) {
+			pending = pendingLoads.get( cacheKey );
+		}
+		if( pending != null )
+			return pending.join();
+
 		// load SVG document
 		document = loadSVGUncached( url );
 
-		svgCache.put( cacheKey, document );
+		putCachedSVG( cacheKey, document );
 
 		return document;
 	}
 
+	private static boolean isLoadPending( String cacheKey ) {
+		synchronized( pendingLoads ) {
+			return pendingLoads.containsKey( cacheKey );
+		}
+	}
+
+	/**
+	 * Loads the SVG document on a background thread and adds it to the cache.
+	 * If the document is already cached or loaded by another thread,
+	 * no new loading is started.
+	 */
+	private static CompletableFuture<SVGDocument> loadSVGAsync( URL url ) {
+		String cacheKey = url.toString();
+		synchronized( pendingLoads ) {
+			SVGDocument document = svgCache.get( cacheKey );
+			if( document != null )
+				return CompletableFuture.completedFuture( document );
+
+			CompletableFuture<SVGDocument> pending = pendingLoads.get( cacheKey );
+			if( pending != null )
+				return pending;
+
+			CompletableFuture<SVGDocument> future = CompletableFuture.supplyAsync( () -> {
+				try {
+					SVGDocument doc = loadSVGUncached( url );
+					if( svgCacheEnabled )
+						putCachedSVG( cacheKey, doc );
+					return doc;
+				} catch( RuntimeException ex ) {
+					if( loggingEnabled )
+						LoggingFacade.INSTANCE.logConfig( "FlatSVGIcon: failed to load '" + url + "'", ex );
+					return null;
+				} finally {
+					synchronized( pendingLoads ) {
+						pendingLoads.remove( cacheKey );
+					}
+				}
+			}, getLoaderExecutor() );
+
+			// the task can not remove the future from pendingLoads before it is added
+			// because it needs the lock, which is held here
+			pendingLoads.put( cacheKey, future );
+			return future;
+		}
+	}
+
+	private static SVGDocument getCachedSVG( String cacheKey ) {
+		return svgCache.get( cacheKey );
+	}
+
+	private static void putCachedSVG( String cacheKey, SVGDocument document ) {
+		svgCache.put( cacheKey, document );
+	}
+
+	private static synchronized ExecutorService getLoaderExecutor() {
+		if( loaderExecutor == null ) {
+			int threadCount = Math.max( 1, Math.min( Runtime.getRuntime().availableProcessors() - 1, 4 ) );
+			AtomicInteger threadNumber = new AtomicInteger();
+			loaderExecutor = Executors.newFixedThreadPool( threadCount, r -> {
+				Thread thread = new Thread( r, "FlatLaf SVG Loader " + threadNumber.incrementAndGet() );
+				thread.setDaemon( true );
+				thread.setPriority( Thread.NORM_PRIORITY - 1 );
+				return thread;
+			} );
+		}
+		return loaderExecutor;
+	}
+
 	private static SVGDocument loadSVGUncached( URL url ) {
-		SVGDocument document = svgLoader.load( url );
+		SVGDocument document = svgLoader.get().load( url );
 
 		if( document == null ) {
 			if( loggingEnabled )
@@ -522,6 +715,10 @@ public class FlatSVGIcon
 	}
 
 	private URL getIconURL( String name, boolean dark ) {
+		return getIconURL( name, dark, classLoader );
+	}
+
+	private static URL getIconURL( String name, boolean dark, ClassLoader classLoader ) {
 		if( dark ) {
 			int dotIndex = name.lastIndexOf( '.' );
 			name = (dotIndex > 0)
@@ -551,7 +748,7 @@ public class FlatSVGIcon
 		if( width > 0 )
 			return scaleSize( width );
 
-		update();
+		update( true );
 		return scaleSize( (document != null) ? Math.round( document.size().width ) : 16 );
 	}
 
@@ -563,7 +760,7 @@ public class FlatSVGIcon
 		if( height > 0 )
 			return scaleSize( height );
 
-		update();
+		update( true );
 		return scaleSize( (document != null) ? Math.round( document.size().height ) : 16 );
 	}
 
@@ -576,7 +773,15 @@ public class FlatSVGIcon
 
 	@Override
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
-		update();
+		// never block painting while SVG document is loaded asynchronously
+		// (components are repainted when loading is finished)
+		update( true );
+
+		// paint nothing while SVG document is loaded asynchronously
+		if( document == null && asyncLoadingKey != null ) {
+			addAsyncLoadingComponent( c );
+			return;
+		}
 
 		// check whether icon is outside of clipping area
 		Rectangle clipBounds = g.getClipBounds();
@@ -589,7 +794,7 @@ public class FlatSVGIcon
 			Object grayFilterObj = UIManager.get( "Component.grayFilter" );
 			grayFilter = (grayFilterObj instanceof RGBImageFilter)
 				? (RGBImageFilter) grayFilterObj
-				: GrayFilter.createDisabledIconFilter( dark );
+				: getDefaultGrayFilter( dark );
 		}
 
 		ColorFilter globalColorFilter = ColorFilter.getInstance();
@@ -699,7 +904,26 @@ public class FlatSVGIcon
 		}
 	}
 
+	private static GrayFilter defaultGrayFilter;
+	private static GrayFilter defaultDarkGrayFilter;
+
+	private static GrayFilter getDefaultGrayFilter( boolean dark ) {
+		// reuse filter instances, which allows GraphicsFilter to reuse filtered colors
+		if( dark ) {
+			if( defaultDarkGrayFilter == null )
+				defaultDarkGrayFilter = GrayFilter.createDisabledIconFilter( true );
+			return defaultDarkGrayFilter;
+		} else {
+			if( defaultGrayFilter == null )
+				defaultGrayFilter = GrayFilter.createDisabledIconFilter( false );
+			return defaultGrayFilter;
+		}
+	}
+
 	private static Boolean darkLaf;
+	// incremented on each change of look and feel or of UI defaults (e.g. UIManager.put());
+	// used to invalidate memoized filtered colors
+	private static volatile int lafChangeCount;
 
 	/**
 	 * Checks whether the current look and feel is dark.
@@ -715,6 +939,12 @@ public class FlatSVGIcon
 			UIManager.addPropertyChangeListener( e -> {
 				lafChanged();
 			} );
+
+			// theme specific icon colors (see ColorFilter.rgb2keyMap) are looked up in UI defaults,
+			// which may be changed by application (e.g. UIManager.put( "Actions.Red", ... ))
+			UIManager.getDefaults().addPropertyChangeListener( e -> {
+				lafChangeCount++;
+			} );
 		}
 
 		return darkLaf;
@@ -722,6 +952,7 @@ public class FlatSVGIcon
 
 	private static void lafChanged() {
 		darkLaf = FlatLaf.isLafDark();
+		lafChangeCount++;
 	}
 
 	/** @since 3.4.1 */
@@ -752,6 +983,140 @@ public class FlatSVGIcon
 		svgCache.clear();
 	}
 
+	/**
+	 * Returns the maximum number of SVG documents in the cache. Default is {@code 1000}.
+	 *
+	 * @since 3.8
+	 */
+	public static int getSVGDocumentCacheMaxSize() {
+		return svgCache.getMaxSize();
+	}
+
+	/**
+	 * Sets the maximum number of SVG documents in the cache.
+	 * If the cache contains more documents, least recently used ones are removed.
+	 *
+	 * @since 3.8
+	 */
+	public static void setSVGDocumentCacheMaxSize( int maxSize ) {
+		svgCache.setMaxSize( maxSize );
+	}
+
+	/**
+	 * Returns whether the SVG document cache uses soft references for documents.
+	 * Default is {@code true}.
+	 *
+	 * @since 3.8
+	 */
+	public static boolean isSVGDocumentCacheSoftValues() {
+		return svgCache.isSoftValues();
+	}
+
+	/**
+	 * Sets whether the SVG document cache uses soft references for documents,
+	 * which allows the garbage collector to free documents under memory pressure.
+	 * If {@code false}, documents are only removed from the cache
+	 * when the maximum size is exceeded.
+	 * <p>
+	 * Changing this clears the cache and resets the statistics.
+	 *
+	 * @since 3.8
+	 */
+	public static void setSVGDocumentCacheSoftValues( boolean softValues ) {
+		LRUCache<String, SVGDocument> oldCache = svgCache;
+		if( softValues != oldCache.isSoftValues() )
+			svgCache = new LRUCache<>( oldCache.getMaxSize(), softValues );
+	}
+
+	/**
+	 * Returns a snapshot of the SVG document cache statistics
+	 * (hit, miss and eviction counts; number of cached documents).
+	 *
+	 * @since 3.8
+	 */
+	public static LRUCache.Statistics getSVGDocumentCacheStatistics() {
+		return svgCache.getStatistics();
+	}
+
+	/**
+	 * Returns whether SVG documents are loaded asynchronously.
+	 *
+	 * @see #setAsyncLoadingEnabled(boolean)
+	 * @since 3.8
+	 */
+	public static boolean isAsyncLoadingEnabled() {
+		return asyncLoadingEnabled;
+	}
+
+	/**
+	 * Sets whether SVG documents are loaded asynchronously. Default is {@code false}.
+	 * <p>
+	 * If enabled and an icon is painted (or measured) on the AWT event dispatching thread
+	 * the first time, then its SVG document is loaded and parsed on a background thread.
+	 * Until loading is finished, the icon paints nothing and its size is
+	 * the width and height passed to the constructor (or 16x16 if not specified).
+	 * When loading is finished, components that painted the icon are repainted
+	 * (and revalidated if the icon size depends on the SVG document).
+	 * <p>
+	 * Methods {@link #hasFound()} and {@link #getImage()} always load synchronously.
+	 * Painting never waits for a pending asynchronous loading (even if painted without component
+	 * or if asynchronous loading was disabled in the meantime).
+	 * <p>
+	 * Requires that the SVG document cache is enabled.
+	 *
+	 * @see #prewarm(Collection)
+	 * @since 3.8
+	 */
+	public static void setAsyncLoadingEnabled( boolean asyncLoadingEnabled ) {
+		FlatSVGIcon.asyncLoadingEnabled = asyncLoadingEnabled;
+	}
+
+	/**
+	 * Loads and parses the given SVG resources in parallel on background threads
+	 * and adds them to the SVG document cache.
+	 * This can be used at application startup to avoid loading SVG documents
+	 * when icons are painted the first time.
+	 * <p>
+	 * For each resource, the variant for the current light or dark theme is loaded
+	 * (see {@link #isDarkLaf()}).
+	 * Resources that are not found are ignored.
+	 *
+	 * @param names the names of the SVG resources (a '/'-separated path; e.g. {@code "com/myapp/myicon.svg"})
+	 * @return a future that completes when all SVG documents are loaded
+	 * @see ClassLoader#getResource(String)
+	 * @since 3.8
+	 */
+	public static CompletableFuture<Void> prewarm( Collection<String> names ) {
+		return prewarm( names, null );
+	}
+
+	/**
+	 * Loads and parses the given SVG resources in parallel on background threads
+	 * and adds them to the SVG document cache.
+	 * The SVG files are loaded from the given class loader.
+	 *
+	 * @param names the names of the SVG resources (a '/'-separated path; e.g. {@code "com/myapp/myicon.svg"})
+	 * @param classLoader the class loader used to load the SVG resources
+	 * @return a future that completes when all SVG documents are loaded
+	 * @see #prewarm(Collection)
+	 * @since 3.8
+	 */
+	public static CompletableFuture<Void> prewarm( Collection<String> names, ClassLoader classLoader ) {
+		if( !svgCacheEnabled )
+			return CompletableFuture.completedFuture( null );
+
+		boolean dark = isDarkLaf();
+		List<CompletableFuture<SVGDocument>> futures = new ArrayList<>( names.size() );
+		for( String name : names ) {
+			URL url = getIconURL( name, dark, classLoader );
+			if( url == null && dark )
+				url = getIconURL( name, false, classLoader );
+			if( url != null )
+				futures.add( loadSVGAsync( url ) );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture[futures.size()] ) );
+	}
+
 	//---- class ColorFilter --------------------------------------------------
 
 	/**
@@ -776,6 +1141,18 @@ public class FlatSVGIcon
 		private BiFunction<Component, Color, Color> mapperEx;
 		private Component c;
 
+		// primitive variants of colorMap and darkColorMap (built on demand)
+		private IntColorMap rgbColorMap;
+		private IntColorMap rgbDarkColorMap;
+
+		// memoized results of filter() (only used if there are no mapper functions);
+		// maps ARGB of original color to filtered color or to null if color is unchanged
+		private final IntColorMap memo = new IntColorMap( 256 );
+		private int memoLafChangeCount = -1;
+
+		// incremented on each change of mappings or mapper functions
+		private int modCount;
+
 		/**
 		 * Returns the global ColorFilter that is applied to all icons.
 		 */
@@ -857,6 +1234,7 @@ public class FlatSVGIcon
 		 */
 		public void setMapper( Function<Color, Color> mapper ) {
 			this.mapper = mapper;
+			changed();
 		}
 
 		/**
@@ -883,6 +1261,7 @@ public class FlatSVGIcon
 		 */
 		public void setMapperEx( BiFunction<Component, Color, Color> mapperEx ) {
 			this.mapperEx = mapperEx;
+			changed();
 		}
 
 		/**
@@ -916,6 +1295,7 @@ public class FlatSVGIcon
 			colorMap.putAll( from2toMap );
 			if( darkColorMap != null )
 				darkColorMap.putAll( from2toMap );
+			changed();
 			return this;
 		}
 
@@ -930,6 +1310,7 @@ public class FlatSVGIcon
 
 			colorMap.putAll( from2toLightMap );
 			darkColorMap.putAll( from2toDarkMap );
+			changed();
 			return this;
 		}
 
@@ -942,6 +1323,7 @@ public class FlatSVGIcon
 			colorMap.put( from, to );
 			if( darkColorMap != null )
 				darkColorMap.put( from, to );
+			changed();
 			return this;
 		}
 
@@ -958,6 +1340,7 @@ public class FlatSVGIcon
 				colorMap.put( from, toLight );
 			if( toDark != null )
 				darkColorMap.put( from, toDark );
+			changed();
 			return this;
 		}
 
@@ -969,6 +1352,7 @@ public class FlatSVGIcon
 				colorMap.remove( from );
 			if( darkColorMap != null )
 				darkColorMap.remove( from );
+			changed();
 			return this;
 		}
 
@@ -980,9 +1364,19 @@ public class FlatSVGIcon
 		public ColorFilter removeAll() {
 			colorMap = null;
 			darkColorMap = null;
+			changed();
 			return this;
 		}
 
+		private void changed() {
+			rgbColorMap = null;
+			rgbDarkColorMap = null;
+			synchronized( memo ) {
+				memo.clear();
+			}
+			modCount++;
+		}
+
 		private void ensureColorMap() {
 			if( colorMap == null )
 				colorMap = new HashMap<>();
@@ -999,6 +1393,26 @@ public class FlatSVGIcon
 
 		/** @since 3.6 */
 		public Color filter( Component c, Color color ) {
+			if( isMemoizable() ) {
+				// mappings only depend on the ARGB value of the color (and the current theme),
+				// so use memoized result to avoid map lookups and color allocations
+				int rgb = color.getRGB();
+				synchronized( memo ) {
+					validateMemo();
+					int index = memo.indexOf( rgb );
+					if( index >= 0 ) {
+						Color newColor = memo.valueAt( index );
+						return (newColor != null) ? newColor : color;
+					}
+				}
+
+				Color newColor = applyMappings( color );
+				synchronized( memo ) {
+					memo.put( rgb, (newColor != color) ? newColor : null );
+				}
+				return newColor;
+			}
+
 			// apply mappings
 			color = applyMappings( color );
 
@@ -1013,12 +1427,30 @@ public class FlatSVGIcon
 			return color;
 		}
 
+		/**
+		 * Returns whether results of {@link #filter(Component, Color)} can be memoized,
+		 * which is the case if no (possibly state dependent) mapper functions are set.
+		 */
+		boolean isMemoizable() {
+			return mapper == null && mapperEx == null;
+		}
+
+		private void validateMemo() {
+			// isDarkLaf() registers listener that increments lafChangeCount
+			isDarkLaf();
+
+			if( memoLafChangeCount != lafChangeCount ) {
+				memo.clear();
+				memoLafChangeCount = lafChangeCount;
+			}
+		}
+
 		private Color applyMappings( Color color ) {
 			if( colorMap != null ) {
-				Map<Color, Color> map = (darkColorMap != null && isDarkLaf()) ? darkColorMap : colorMap;
-				Color newColor = map.get( color );
-				if( newColor != null )
-					return newColor;
+				IntColorMap map = (darkColorMap != null && isDarkLaf()) ? getRGBDarkColorMap() : getRGBColorMap();
+				int index = map.indexOf( color.getRGB() );
+				if( index >= 0 )
+					return map.valueAt( index );
 			}
 
 			if( rgb2keyMap != null ) {
@@ -1041,6 +1473,29 @@ public class FlatSVGIcon
 			return color;
 		}
 
+		private IntColorMap getRGBColorMap() {
+			IntColorMap map = rgbColorMap;
+			if( map == null )
+				rgbColorMap = map = toRGBColorMap( colorMap );
+			return map;
+		}
+
+		private IntColorMap getRGBDarkColorMap() {
+			IntColorMap map = rgbDarkColorMap;
+			if( map == null )
+				rgbDarkColorMap = map = toRGBColorMap( darkColorMap );
+			return map;
+		}
+
+		private static IntColorMap toRGBColorMap( Map<Color, Color> colorMap ) {
+			IntColorMap map = new IntColorMap( Integer.MAX_VALUE );
+			for( Map.Entry<Color, Color> e : colorMap.entrySet() ) {
+				if( e.getValue() != null )
+					map.put( e.getKey().getRGB(), e.getValue() );
+			}
+			return map;
+		}
+
 		/**
 		 * Returns the component passed to {@link FlatSVGIcon#paintIcon(Component, Graphics, int, int)}.
 		 * This allows color mapping depend on component state (e.g. enabled, selected, hover, etc).
@@ -1072,6 +1527,18 @@ public class FlatSVGIcon
 	private static class GraphicsFilter
 		extends Graphics2DProxy
 	{
+		// memoized results of gray filter (see grayFilterMemo())
+		private static RGBImageFilter grayMemoFilter;
+		private static final IntColorMap grayMemo = new IntColorMap( 256 );
+
+		// cache for filtered gradient colors (see filterColors())
+		private static final GradientColors[] gradientCache = new GradientColors[16];
+		private static int gradientCacheNext;
+
+		// gray filtered raster images (weak-keyed by source image; see filterImage())
+		private static final Map<Image, BufferedImage> grayImageCache = new WeakHashMap<>();
+		private static RGBImageFilter grayImageCacheFilter;
+
 		private final ColorFilter colorFilter;
 		private final ColorFilter globalColorFilter;
 		private final RGBImageFilter grayFilter;
@@ -1122,6 +1589,96 @@ public class FlatSVGIcon
 			super.setPaint( paint );
 		}
 
+		@Override
+		public boolean drawImage( Image img, int x, int y, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), x, y, observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, int x, int y, int width, int height, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), x, y, width, height, observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, int x, int y, Color bgcolor, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), x, y, filterBackground( bgcolor ), observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), x, y, width, height, filterBackground( bgcolor ), observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer ) {
+			return super.drawImage( filterImage( img ), dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, filterBackground( bgcolor ), observer );
+		}
+
+		@Override
+		public boolean drawImage( Image img, AffineTransform xform, ImageObserver obs ) {
+			return super.drawImage( filterImage( img ), xform, obs );
+		}
+
+		private Color filterBackground( Color bgcolor ) {
+			return (bgcolor != null) ? filterColor( bgcolor ) : null;
+		}
+
+		/**
+		 * Applies the gray filter to raster images (e.g. embedded in SVG).
+		 * Filtered images are cached.
+		 */
+		private Image filterImage( Image img ) {
+			if( grayFilter == null || img == null )
+				return img;
+
+			synchronized( grayImageCache ) {
+				if( grayImageCacheFilter != grayFilter ) {
+					grayImageCache.clear();
+					grayImageCacheFilter = grayFilter;
+				}
+
+				BufferedImage grayImage = grayImageCache.get( img );
+				if( grayImage != null )
+					return grayImage;
+			}
+
+			int width = img.getWidth( null );
+			int height = img.getHeight( null );
+			if( width <= 0 || height <= 0 )
+				return img; // not (yet) loaded
+
+			// copy pixels as is (avoids rounding errors in translucent pixels)
+			BufferedImage grayImage = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+			Graphics2D g = grayImage.createGraphics();
+			try {
+				g.setComposite( AlphaComposite.Src );
+				if( !g.drawImage( img, 0, 0, null ) )
+					return img; // not (yet) completely loaded
+			} finally {
+				g.dispose();
+			}
+
+			if( grayFilter instanceof GrayFilter )
+				((GrayFilter)grayFilter).filter( grayImage );
+			else {
+				int[] pixels = grayImage.getRGB( 0, 0, width, height, null, 0, width );
+				for( int i = 0; i < pixels.length; i++ )
+					pixels[i] = grayFilter.filterRGB( i % width, i / width, pixels[i] );
+				grayImage.setRGB( 0, 0, width, height, pixels, 0, width );
+			}
+
+			synchronized( grayImageCache ) {
+				if( grayImageCacheFilter == grayFilter )
+					grayImageCache.put( img, grayImage );
+			}
+			return grayImage;
+		}
+
 		private Color filterColor( Color color ) {
 			if( colorFilter != null ) {
 				Color newColor = colorFilter.filter( color );
@@ -1132,21 +1689,224 @@ public class FlatSVGIcon
 				color = globalColorFilter.filter( color );
 
 			if( grayFilter != null ) {
+				// gray filter result only depends on ARGB value of color,
+				// so use memoized result to avoid color allocations
 				int oldRGB = color.getRGB();
+				synchronized( grayMemo ) {
+					if( grayMemoFilter != grayFilter ) {
+						grayMemo.clear();
+						grayMemoFilter = grayFilter;
+					}
+
+					int index = grayMemo.indexOf( oldRGB );
+					if( index >= 0 ) {
+						Color newColor = grayMemo.valueAt( index );
+						return (newColor != null) ? newColor : color;
+					}
+				}
+
 				int newRGB = grayFilter.filterRGB( 0, 0, oldRGB );
-				color = (newRGB != oldRGB) ? new Color( newRGB, true ) : color;
+				Color newColor = (newRGB != oldRGB) ? new Color( newRGB, true ) : null;
+				synchronized( grayMemo ) {
+					if( grayMemoFilter == grayFilter )
+						grayMemo.put( oldRGB, newColor );
+				}
+				color = (newColor != null) ? newColor : color;
 			}
 			return color;
 		}
 
 		private Color[] filterColors( Color[] colors ) {
-			Color[] newColors = new Color[colors.length];
-			boolean changed = false;
+			// filtered colors can be cached only if filter results are memoizable
+			boolean cacheable = (colorFilter == null || colorFilter.isMemoizable()) &&
+				globalColorFilter.isMemoizable();
+
+			if( cacheable ) {
+				synchronized( gradientCache ) {
+					for( GradientColors entry : gradientCache ) {
+						if( entry != null && entry.matches( colors, colorFilter, globalColorFilter, grayFilter ) )
+							return entry.newColors;
+					}
+				}
+			}
+
+			Color[] newColors = null;
+			for( int i = 0; i < colors.length; i++ ) {
+				Color newColor = filterColor( colors[i] );
+				if( newColor != colors[i] && newColors == null )
+					newColors = colors.clone();
+				if( newColors != null )
+					newColors[i] = newColor;
+			}
+
+			if( cacheable ) {
+				synchronized( gradientCache ) {
+					gradientCache[gradientCacheNext] = new GradientColors( colors, newColors,
+						colorFilter, globalColorFilter, grayFilter );
+					gradientCacheNext = (gradientCacheNext + 1) % gradientCache.length;
+				}
+			}
+			return newColors;
+		}
+	}
+
+	//---- class GradientColors -----------------------------------------------
+
+	/**
+	 * Filtered gradient colors, which are valid as long as the color filters,
+	 * their mappings and the current look and feel do not change.
+	 */
+	private static class GradientColors
+	{
+		private final int[] rgbs;
+		final Color[] newColors;
+
+		private final ColorFilter colorFilter;
+		private final int colorFilterModCount;
+		private final ColorFilter globalColorFilter;
+		private final int globalColorFilterModCount;
+		private final RGBImageFilter grayFilter;
+		private final int lafChangeCount;
+
+		GradientColors( Color[] colors, Color[] newColors, ColorFilter colorFilter,
+			ColorFilter globalColorFilter, RGBImageFilter grayFilter )
+		{
+			rgbs = new int[colors.length];
+			for( int i = 0; i < colors.length; i++ )
+				rgbs[i] = colors[i].getRGB();
+			this.newColors = newColors;
+
+			this.colorFilter = colorFilter;
+			this.colorFilterModCount = (colorFilter != null) ? colorFilter.modCount : 0;
+			this.globalColorFilter = globalColorFilter;
+			this.globalColorFilterModCount = globalColorFilter.modCount;
+			this.grayFilter = grayFilter;
+			this.lafChangeCount = FlatSVGIcon.lafChangeCount;
+		}
+
+		boolean matches( Color[] colors, ColorFilter colorFilter,
+			ColorFilter globalColorFilter, RGBImageFilter grayFilter )
+		{
+			if( colorFilter != this.colorFilter ||
+				globalColorFilter != this.globalColorFilter ||
+				grayFilter != this.grayFilter ||
+				colors.length != rgbs.length ||
+				(colorFilter != null && colorFilter.modCount != colorFilterModCount) ||
+				globalColorFilter.modCount != globalColorFilterModCount ||
+				FlatSVGIcon.lafChangeCount != lafChangeCount )
+				return false;
+
 			for( int i = 0; i < colors.length; i++ ) {
-				newColors[i] = filterColor( colors[i] );
-				changed = (changed || newColors[i] != colors[i]);
+				if( colors[i].getRGB() != rgbs[i] )
+					return false;
 			}
-			return changed ? newColors : null;
+			return true;
+		}
+	}
+
+	//---- class IntColorMap --------------------------------------------------
+
+	/**
+	 * A simple open-addressing hash map that maps primitive ARGB values to colors.
+	 * Values may be {@code null}.
+	 * Not thread-safe.
+	 */
+	private static class IntColorMap
+	{
+		private final int maxSize;
+
+		private int[] keys;
+		private Color[] values;
+		private boolean[] used;
+		private int size;
+
+		/**
+		 * @param maxSize maximum number of entries; if exceeded, the map is cleared
+		 */
+		IntColorMap( int maxSize ) {
+			this.maxSize = maxSize;
+			allocate( 16 );
+		}
+
+		/**
+		 * Returns the index of the given key, or {@code -1} if not found.
+		 */
+		int indexOf( int key ) {
+			int mask = keys.length - 1;
+			for( int i = hash( key ) & mask; used[i]; i = (i + 1) & mask ) {
+				if( keys[i] == key )
+					return i;
+			}
+			return -1;
+		}
+
+		Color valueAt( int index ) {
+			return values[index];
+		}
+
+		void put( int key, Color value ) {
+			int index = indexOf( key );
+			if( index >= 0 ) {
+				values[index] = value;
+				return;
+			}
+
+			if( size >= maxSize )
+				clear();
+			else if( (size + 1) * 2 > keys.length )
+				rehash( keys.length * 2 );
+
+			insert( key, value );
+		}
+
+		void clear() {
+			if( size == 0 )
+				return;
+
+			// shrink if grown
+			if( keys.length > 16 )
+				allocate( 16 );
+			else {
+				Arrays.fill( used, false );
+				Arrays.fill( values, null );
+			}
+			size = 0;
+		}
+
+		private void insert( int key, Color value ) {
+			int mask = keys.length - 1;
+			int i = hash( key ) & mask;
+			while( used[i] )
+				i = (i + 1) & mask;
+
+			keys[i] = key;
+			values[i] = value;
+			used[i] = true;
+			size++;
+		}
+
+		private void rehash( int capacity ) {
+			int[] oldKeys = keys;
+			Color[] oldValues = values;
+			boolean[] oldUsed = used;
+
+			allocate( capacity );
+			size = 0;
+			for( int i = 0; i < oldKeys.length; i++ ) {
+				if( oldUsed[i] )
+					insert( oldKeys[i], oldValues[i] );
+			}
+		}
+
+		private void allocate( int capacity ) {
+			keys = new int[capacity];
+			values = new Color[capacity];
+			used = new boolean[capacity];
+		}
+
+		private static int hash( int key ) {
+			int h = key * 0x9e3779b9;
+			return h ^ (h >>> 16);
 		}
 	}
 }
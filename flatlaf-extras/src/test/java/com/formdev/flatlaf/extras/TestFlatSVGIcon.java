@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.extras;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.Color;
+import java.awt.EventQueue;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JLabel;
+import javax.swing.UIManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.FlatIconColors;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.extras.FlatSVGIcon.ColorFilter;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatSVGIcon
+{
+	@BeforeAll
+	static void setup() {
+		FlatLightLaf.setup();
+	}
+
+	@AfterAll
+	static void cleanup() {
+		UIManager.put( "Actions.Red", null );
+	}
+
+	@Test
+	void colorFilterThemeColorChanged() {
+		ColorFilter colorFilter = ColorFilter.getInstance();
+		Color red = new Color( FlatIconColors.ACTIONS_RED.rgb );
+
+		assertEquals( UIManager.getColor( "Actions.Red" ), colorFilter.filter( red ) );
+
+		// filter again to use memoized result
+		assertEquals( UIManager.getColor( "Actions.Red" ), colorFilter.filter( red ) );
+
+		// change theme icon color
+		UIManager.put( "Actions.Red", Color.green );
+		assertEquals( Color.green, colorFilter.filter( red ) );
+
+		UIManager.put( "Actions.Red", null );
+		assertEquals( UIManager.getColor( "Actions.Red" ), colorFilter.filter( red ) );
+	}
+
+	@Test
+	void paintWhileLoadingAsync() throws Exception {
+		// URL that delivers SVG document only after the latch is released
+		CountDownLatch loadLatch = new CountDownLatch( 1 );
+		URL url = new URL( null, "blocking:test.svg", new URLStreamHandler() {
+			@Override
+			protected URLConnection openConnection( URL u ) {
+				return new URLConnection( u ) {
+					@Override
+					public void connect() {
+					}
+
+					@Override
+					public InputStream getInputStream() throws IOException {
+						try {
+							loadLatch.await( 10, TimeUnit.SECONDS );
+						} catch( InterruptedException ex ) {
+							throw new IOException( ex );
+						}
+						String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"16\" height=\"16\">"
+							+ "<rect width=\"16\" height=\"16\" fill=\"#6E6E6E\"/></svg>";
+						return new ByteArrayInputStream( svg.getBytes( StandardCharsets.UTF_8 ) );
+					}
+				};
+			}
+		} );
+
+		boolean oldAsyncLoadingEnabled = FlatSVGIcon.isAsyncLoadingEnabled();
+		FlatSVGIcon.setAsyncLoadingEnabled( true );
+		try {
+			FlatSVGIcon icon1 = new FlatSVGIcon( url );
+			FlatSVGIcon icon2 = new FlatSVGIcon( url );
+			BufferedImage image = new BufferedImage( 16, 16, BufferedImage.TYPE_INT_ARGB );
+			CountDownLatch paintedLatch = new CountDownLatch( 1 );
+
+			EventQueue.invokeLater( () -> {
+				Graphics2D g = image.createGraphics();
+				try {
+					// starts asynchronous loading
+					icon1.paintIcon( new JLabel(), g, 0, 0 );
+
+					// painting without component must not wait for pending loading
+					icon2.paintIcon( null, g, 0, 0 );
+				} finally {
+					g.dispose();
+				}
+				paintedLatch.countDown();
+			} );
+
+			assertTrue( paintedLatch.await( 5, TimeUnit.SECONDS ), "painting blocked" );
+
+			// nothing painted while loading
+			assertEquals( 0, image.getRGB( 8, 8 ) );
+
+			loadLatch.countDown();
+
+			// icons are painted when loading is finished
+			assertTrue( icon2.hasFound() );
+			EventQueue.invokeAndWait( () -> {
+				Graphics2D g = image.createGraphics();
+				try {
+					icon2.paintIcon( null, g, 0, 0 );
+				} finally {
+					g.dispose();
+				}
+			} );
+			assertTrue( image.getRGB( 8, 8 ) != 0 );
+		} finally {
+			loadLatch.countDown();
+			FlatSVGIcon.setAsyncLoadingEnabled( oldAsyncLoadingEnabled );
+		}
+	}
+}
@@ -46,6 +46,29 @@ dependencies {
 	components.all<TargetJvmVersion8Rule>()
 }
 
+// JMH benchmarks in src/jmh/java
+//   run all:      gradlew :flatlaf-testing:jmh
+//   run some:     gradlew :flatlaf-testing:jmh -Pjmh.includes=ColorFunctions
+val jmh: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom( configurations.implementation.get() )
+
+dependencies {
+	"jmhImplementation"( libs.jmh.core )
+	"jmhAnnotationProcessor"( libs.jmh.generator )
+}
+
+tasks.register<JavaExec>( "jmh" ) {
+	group = "verification"
+	description = "Runs JMH benchmarks."
+	classpath = jmh.runtimeClasspath
+	mainClass = "org.openjdk.jmh.Main"
+	jvmArgs( "-Djava.awt.headless=true" )
+	(project.findProperty( "jmh.includes" ) as String?)?.let { args( it ) }
+}
+
 applyLafs()
 
 fun applyLafs() {
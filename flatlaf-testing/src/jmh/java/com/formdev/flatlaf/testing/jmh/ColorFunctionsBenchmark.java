@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.util.ColorFunctions;
+import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
+
+/**
+ * Compares object-based ({@link Color}) and primitive (packed ARGB {@code int})
+ * variants of {@link ColorFunctions}.
+ * <p>
+ * Run with {@code -prof gc} to see allocation rates.
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ColorFunctionsBenchmark
+{
+	private final Color color = new Color( 0x2675BF );
+	private final int argb = color.getRGB();
+	private final Color color2 = new Color( 0xF2F2F2 );
+	private final int argb2 = color2.getRGB();
+	private final float[] hsla = new float[4];
+
+	// same functions as used for e.g. "Button.hoverBackground = darken($Button.background,3%,derived)"
+	private final ColorFunction[] functions = {
+		new ColorFunctions.HSLIncreaseDecrease( 2, false, 3, false, true ),
+	};
+	private final ColorFunction[] mixFunctions = {
+		new ColorFunctions.Mix( Color.white, 20 ),
+	};
+
+	@Benchmark
+	public Color darkenColor() {
+		return ColorFunctions.darken( color, 0.1f );
+	}
+
+	@Benchmark
+	public int darkenInt() {
+		return ColorFunctions.darken( argb, 0.1f, hsla );
+	}
+
+	@Benchmark
+	public Color mixColor() {
+		return ColorFunctions.mix( color, color2, 0.3f );
+	}
+
+	@Benchmark
+	public int mixInt() {
+		return ColorFunctions.mix( argb, argb2, 0.3f );
+	}
+
+	@Benchmark
+	public Color fadeColor() {
+		return ColorFunctions.fade( color, 0.5f );
+	}
+
+	@Benchmark
+	public int fadeInt() {
+		return ColorFunctions.fade( argb, 0.5f );
+	}
+
+	@Benchmark
+	public Color applyFunctionsColor() {
+		return ColorFunctions.applyFunctions( color, functions );
+	}
+
+	@Benchmark
+	public int applyFunctionsInt() {
+		return ColorFunctions.applyFunctions( argb, hsla, functions );
+	}
+
+	@Benchmark
+	public Color applyMixFunctionColor() {
+		return ColorFunctions.applyFunctions( color, mixFunctions );
+	}
+
+	@Benchmark
+	public int applyMixFunctionInt() {
+		return ColorFunctions.applyFunctions( argb, hsla, mixFunctions );
+	}
+}
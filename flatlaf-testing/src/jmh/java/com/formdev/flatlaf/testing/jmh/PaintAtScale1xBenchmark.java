@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatDropShadowBorder;
+import com.formdev.flatlaf.util.HiDPIUtils;
+
+/**
+ * Paints at scale 1x (see {@link HiDPIUtils#paintAtScale1x}) at fractional scale factors
+ * using a capturing painter lambda, using a non-capturing parameter painter
+ * and painting a {@link FlatDropShadowBorder}.
+ * <p>
+ * Run with {@code -prof gc} to see allocation rates.
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+public class PaintAtScale1xBenchmark
+{
+	@Param( { "1.25", "1.5", "1.75" } )
+	public double scale;
+
+	private BufferedImage image;
+	private Graphics2D g;
+	private int lineWidth = 1;
+	private JPanel panel;
+	private FlatDropShadowBorder dropShadowBorder;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+
+		image = new BufferedImage( 300, 100, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		g.scale( scale, scale );
+		g.translate( 3, 3 );
+		g.setColor( Color.gray );
+
+		panel = new JPanel();
+		dropShadowBorder = new FlatDropShadowBorder( Color.black, new Insets( 5, 5, 6, 6 ), 0.3f );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void capturingPainter() {
+		HiDPIUtils.paintAtScale1x( g, 0, 0, 100, 30,
+			(g2, x2, y2, width2, height2, scaleFactor) -> {
+				g2.fillRect( x2, y2, width2, lineWidth );
+			} );
+	}
+
+	@Benchmark
+	public void paramPainter() {
+		HiDPIUtils.paintAtScale1x( g, 0, 0, 100, 30, this,
+			(g2, x2, y2, width2, height2, scaleFactor, benchmark) -> {
+				g2.fillRect( x2, y2, width2, benchmark.lineWidth );
+			} );
+	}
+
+	@Benchmark
+	public void dropShadowBorder() {
+		// always paints at scale 1x
+		dropShadowBorder.paintBorder( panel, g, 0, 0, 100, 80 );
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JProgressBar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Paints progress bars (e.g. as renderer in a job monitor table),
+ * using cached indeterminate box images (see {@code FlatProgressBarUI}).
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+public class ProgressBarPaintBenchmark
+{
+	@Param( { "1", "2" } )
+	public int scale;
+
+	private JProgressBar indeterminateProgressBar;
+	private JProgressBar determinateProgressBar;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+
+		// animation is not started because progress bar is not showing
+		indeterminateProgressBar = new JProgressBar();
+		indeterminateProgressBar.setIndeterminate( true );
+		indeterminateProgressBar.setSize( 300, 4 );
+
+		determinateProgressBar = new JProgressBar();
+		determinateProgressBar.setValue( 50 );
+		determinateProgressBar.setSize( 300, 4 );
+
+		image = new BufferedImage( 300 * scale, 4 * scale, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		g.scale( scale, scale );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void paintIndeterminate() {
+		indeterminateProgressBar.paint( g );
+	}
+
+	@Benchmark
+	public void paintDeterminate() {
+		determinateProgressBar.paint( g );
+	}
+}
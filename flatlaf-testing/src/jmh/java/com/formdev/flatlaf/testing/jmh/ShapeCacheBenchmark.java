@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JLabel;
+import javax.swing.JTabbedPane;
+import javax.swing.SwingConstants;
+import javax.swing.UIManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.FlatSystemProperties;
+import com.formdev.flatlaf.ui.FlatArrowButton;
+
+/**
+ * Paints {@link FlatArrowButton} and {@link JTabbedPane} with and without shape cache
+ * (see {@link FlatSystemProperties#USE_SHAPE_CACHE}).
+ * <p>
+ * Run with {@code -prof gc} to see allocation rates.
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+public class ShapeCacheBenchmark
+{
+	// JMH runs each parameter value in its own fork,
+	// so the system property is read only once per JVM
+	@Param( { "true", "false" } )
+	public boolean useShapeCache;
+
+	private FlatArrowButton arrowButton;
+	private JTabbedPane tabbedPane;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		System.setProperty( FlatSystemProperties.USE_SHAPE_CACHE, String.valueOf( useShapeCache ) );
+		FlatLightLaf.setup();
+
+		arrowButton = new FlatArrowButton( SwingConstants.SOUTH, "chevron",
+			UIManager.getColor( "ComboBox.buttonArrowColor" ), null, null, null, null, null );
+		arrowButton.setSize( 20, 30 );
+
+		tabbedPane = new JTabbedPane();
+		tabbedPane.putClientProperty( FlatClientProperties.STYLE, "tabArc: 8; showTabSeparators: true" );
+		for( int i = 1; i <= 10; i++ )
+			tabbedPane.addTab( "Tab " + i, new JLabel( "content " + i ) );
+		tabbedPane.setSelectedIndex( 3 );
+		tabbedPane.setSize( 600, 300 );
+		tabbedPane.doLayout();
+
+		image = new BufferedImage( 600, 300, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void arrowButton() {
+		arrowButton.paint( g );
+	}
+
+	@Benchmark
+	public void tabbedPane() {
+		tabbedPane.paint( g );
+	}
+}
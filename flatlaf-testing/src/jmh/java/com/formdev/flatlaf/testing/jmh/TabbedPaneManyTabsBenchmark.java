@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JLabel;
+import javax.swing.JTabbedPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatTabbedPaneUI;
+
+/**
+ * Layouts, paints and hit-tests a {@link JTabbedPane} with very many tabs
+ * (see tab size cache, clip-only painting and binary search in {@link FlatTabbedPaneUI}).
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+public class TabbedPaneManyTabsBenchmark
+{
+	@Param( { "100", "10000" } )
+	public int tabCount;
+
+	@Param( { "scroll", "wrap" } )
+	public String tabLayoutPolicy;
+
+	private JTabbedPane tabbedPane;
+	private BufferedImage image;
+	private Graphics2D g;
+	private Rectangle selectedTabBounds;
+	private int counter;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+
+		tabbedPane = new JTabbedPane( JTabbedPane.TOP, tabLayoutPolicy.equals( "scroll" )
+			? JTabbedPane.SCROLL_TAB_LAYOUT
+			: JTabbedPane.WRAP_TAB_LAYOUT );
+		for( int i = 1; i <= tabCount; i++ )
+			tabbedPane.addTab( "Log " + i, new JLabel( "content " + i ) );
+		tabbedPane.setSelectedIndex( 2 );
+		tabbedPane.setSize( 800, 600 );
+
+		// create (lightweight) peer so that tabbed pane becomes valid after layout;
+		// otherwise each paint and hit-test would layout tabbed pane in headless mode
+		tabbedPane.addNotify();
+		tabbedPane.validate();
+		selectedTabBounds = tabbedPane.getBoundsAt( tabbedPane.getSelectedIndex() );
+
+		image = new BufferedImage( 800, 600, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	/**
+	 * Layout after changing the title of a single tab.
+	 */
+	@Benchmark
+	public void layoutAfterTitleChange() {
+		tabbedPane.setTitleAt( 0, "Log " + (counter++ & 0xff) );
+
+		// revalidate() in setTitleAt() does nothing because tabbed pane has no parent
+		tabbedPane.invalidate();
+		tabbedPane.validate();
+	}
+
+	@Benchmark
+	public void paint() {
+		tabbedPane.paint( g );
+	}
+
+	/**
+	 * Paints a small area (e.g. when repainting a single tab on hover).
+	 */
+	@Benchmark
+	public void paintClipped() {
+		g.setClip( selectedTabBounds );
+		tabbedPane.paint( g );
+		g.setClip( null );
+	}
+
+	/**
+	 * Hit-tests locations in the tab run of the selected tab.
+	 */
+	@Benchmark
+	public int tabForCoordinate() {
+		Rectangle r = selectedTabBounds;
+		return tabbedPane.indexAtLocation( counter++ % tabbedPane.getWidth(), r.y + (r.height / 2) );
+	}
+}
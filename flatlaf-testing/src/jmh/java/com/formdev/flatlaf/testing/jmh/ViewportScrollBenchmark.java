@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing.jmh;
+
+import java.awt.Color;
+import java.awt.EventQueue;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTree;
+import javax.swing.JViewport;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Scrolls a table (horizontally, shorter than viewport, with alternating rows
+ * painted below the table), a list and a tree (vertically, with rounded selection)
+ * in small steps and counts the painted pixels per scroll step.
+ * <p>
+ * Blit scrolling (see {@link JViewport#BLIT_SCROLL_MODE}) requires a showing window,
+ * which is not available in headless mode. So this benchmark simulates it:
+ * for each scroll step, the viewport content is copied and only the newly exposed
+ * strip is painted (as {@link JViewport} does when blitting).
+ * Additionally, all areas that are repainted by the UI delegates in response
+ * to the scroll step (e.g. by component listeners) are painted.
+ * These "extra" areas are counted separately, because they also prevent blitting
+ * of the following scroll step if they are in the scroll pane.
+ * <p>
+ * Compare the counters {@code paintedPixels}, {@code extraPixels} and {@code steps}
+ * (painted pixels per scroll step is {@code paintedPixels / steps}).
+ *
+ * @author Karl Tauber
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+public class ViewportScrollBenchmark
+{
+	private static final int WIDTH = 400;
+	private static final int HEIGHT = 300;
+	private static final int STEP = 4;
+
+	@Param( { "table", "list", "tree" } )
+	public String view;
+
+	private JScrollPane scrollPane;
+	private JViewport viewport;
+	private boolean horizontal;
+	private CountingRepaintManager repaintManager;
+	private BufferedImage image;
+	private Graphics2D g;
+	private int direction = 1;
+
+	@State( Scope.Thread )
+	@AuxCounters( AuxCounters.Type.EVENTS )
+	public static class Counters
+	{
+		/** Number of scroll steps. */
+		public long steps;
+		/** Number of pixels painted (exposed strips plus extra areas). */
+		public long paintedPixels;
+		/** Number of pixels in areas repainted by UI delegates in response to scroll steps. */
+		public long extraPixels;
+	}
+
+	@Setup( Level.Trial )
+	public void setup() throws Exception {
+		EventQueue.invokeAndWait( this::setupImpl );
+	}
+
+	private void setupImpl() {
+		FlatLightLaf.setup();
+		UIManager.put( "Table.alternateRowColor", new Color( 0xf0f0f0 ) );
+		UIManager.put( "Table.paintOutsideAlternateRows", true );
+		UIManager.put( "List.selectionArc", 6 );
+		UIManager.put( "Tree.selectionArc", 6 );
+
+		JComponent c;
+		switch( view ) {
+			case "table":
+				// wider than viewport, but shorter
+				JTable table = new JTable( new DefaultTableModel( 5, 20 ) );
+				table.setAutoResizeMode( JTable.AUTO_RESIZE_OFF );
+				table.setRowSelectionInterval( 1, 1 );
+				c = table;
+				horizontal = true;
+				break;
+
+			case "list":
+				String[] items = new String[1000];
+				for( int i = 0; i < items.length; i++ )
+					items[i] = "Item " + i;
+				JList<String> list = new JList<>( items );
+				list.setSelectionInterval( 5, 8 );
+				c = list;
+				break;
+
+			case "tree":
+				DefaultMutableTreeNode root = new DefaultMutableTreeNode( "root" );
+				for( int i = 0; i < 1000; i++ )
+					root.add( new DefaultMutableTreeNode( "Node " + i ) );
+				JTree tree = new JTree( root );
+				tree.setSelectionInterval( 5, 8 );
+				c = tree;
+				break;
+
+			default:
+				throw new IllegalArgumentException( view );
+		}
+
+		scrollPane = new JScrollPane( c );
+		scrollPane.setSize( WIDTH, HEIGHT );
+
+		// create (lightweight) peers so that scroll pane and view become valid after layout
+		scrollPane.addNotify();
+		scrollPane.validate();
+		viewport = scrollPane.getViewport();
+
+		image = new BufferedImage( WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+
+		// initial paint (also installs listeners that are added on demand)
+		scrollPane.paint( g );
+
+		repaintManager = new CountingRepaintManager();
+		RepaintManager.setCurrentManager( repaintManager );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		RepaintManager.setCurrentManager( null );
+		g.dispose();
+	}
+
+	@Benchmark
+	public void scrollStep( Counters counters ) throws Exception {
+		// scroll viewport and paint exposed strip
+		EventQueue.invokeAndWait( () -> {
+			Point oldPosition = viewport.getViewPosition();
+			Point newPosition = nextViewPosition( oldPosition );
+			int dx = oldPosition.x - newPosition.x;
+			int dy = oldPosition.y - newPosition.y;
+
+			// headless JViewport repaints whole viewport instead of blitting --> ignore
+			viewport.setViewPosition( newPosition );
+			repaintManager.clear();
+
+			// simulate blitting: copy pixels and paint newly exposed strip
+			Rectangle vr = viewport.getBounds();
+			Rectangle exposed = horizontal
+				? new Rectangle( dx < 0 ? vr.x + vr.width + dx : vr.x, vr.y, Math.abs( dx ), vr.height )
+				: new Rectangle( vr.x, dy < 0 ? vr.y + vr.height + dy : vr.y, vr.width, Math.abs( dy ) );
+			g.copyArea( vr.x, vr.y, vr.width, vr.height, dx, dy );
+			paint( exposed );
+
+			counters.steps++;
+			counters.paintedPixels += (long) exposed.width * exposed.height;
+
+			// start counting repaints requested by UI delegates
+			repaintManager.counting = true;
+		} );
+
+		// process events posted by scroll step (e.g. component moved events)
+		// and paint areas that were repainted by UI delegates
+		EventQueue.invokeAndWait( () -> {
+			repaintManager.counting = false;
+
+			for( Rectangle r : repaintManager.dirtyRects ) {
+				paint( r );
+				counters.paintedPixels += (long) r.width * r.height;
+				counters.extraPixels += (long) r.width * r.height;
+			}
+			repaintManager.clear();
+		} );
+	}
+
+	private Point nextViewPosition( Point position ) {
+		int max = horizontal
+			? viewport.getViewSize().width - viewport.getWidth()
+			: viewport.getViewSize().height - viewport.getHeight();
+		int value = horizontal ? position.x : position.y;
+
+		// scroll back and forth
+		if( value + (STEP * direction) < 0 || value + (STEP * direction) > max )
+			direction = -direction;
+		value += STEP * direction;
+
+		return horizontal ? new Point( value, position.y ) : new Point( position.x, value );
+	}
+
+	private void paint( Rectangle r ) {
+		Graphics2D g2 = (Graphics2D) g.create( r.x, r.y, r.width, r.height );
+		try {
+			g2.translate( -r.x, -r.y );
+			scrollPane.paint( g2 );
+		} finally {
+			g2.dispose();
+		}
+	}
+
+	//---- class CountingRepaintManager ---------------------------------------
+
+	/**
+	 * Records dirty regions (in scroll pane coordinates) instead of painting them.
+	 */
+	private class CountingRepaintManager
+		extends RepaintManager
+	{
+		boolean counting;
+		final ArrayList<Rectangle> dirtyRects = new ArrayList<>();
+
+		@Override
+		public void addDirtyRegion( JComponent c, int x, int y, int w, int h ) {
+			if( !counting || w <= 0 || h <= 0 || !SwingUtilities.isDescendingFrom( c, scrollPane ) )
+				return;
+
+			Rectangle r = SwingUtilities.convertRectangle( c, new Rectangle( x, y, w, h ), scrollPane );
+			r = r.intersection( new Rectangle( 0, 0, WIDTH, HEIGHT ) );
+			if( !r.isEmpty() )
+				dirtyRects.add( r );
+		}
+
+		void clear() {
+			dirtyRects.clear();
+		}
+	}
+}